@@ -1,5 +1,6 @@
 plugins {
     id("java")
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.internship"
@@ -18,8 +19,26 @@ repositories {
 dependencies {
     testImplementation(platform("org.junit:junit-bom:5.9.1"))
     testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
 tasks.test {
     useJUnitPlatform()
-}
\ No newline at end of file
+}
+tasks.register<JavaExec>("perft") {
+    group = "verification"
+    description = "Counts perft leaf nodes per root move. Use -PperftDepth=<n> and optionally -PperftFen=<fen>."
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass = "com.internship.engine.Perft"
+    args = listOfNotNull(
+        project.findProperty("perftDepth")?.toString() ?: "5",
+        project.findProperty("perftFen")?.toString()
+    )
+}
+
+jmh {
+    warmupIterations = 3
+    iterations = 5
+    fork = 1
+    project.findProperty("jmhIncludes")?.let { includes = listOf(it.toString()) }
+}
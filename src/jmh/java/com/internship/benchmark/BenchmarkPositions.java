@@ -0,0 +1,28 @@
+package com.internship.benchmark;
+
+import com.internship.model.game.Board;
+import com.internship.notation.Fen;
+
+public final class BenchmarkPositions {
+    public static final String OPENING = "r1bqkbnr/pppp1ppp/2n5/4p3/4P3/5N2/PPPP1PPP/RNBQKB1R w KQkq - 2 3";
+    public static final String MIDDLEGAME = "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10";
+    public static final String ENDGAME = "8/5pk1/6p1/3R4/1r5P/6P1/5PK1/8 w - - 0 40";
+
+    private BenchmarkPositions() {
+    }
+
+    public static String fen(String phase) {
+        return switch (phase) {
+            case "OPENING" -> OPENING;
+            case "MIDDLEGAME" -> MIDDLEGAME;
+            case "ENDGAME" -> ENDGAME;
+            default -> throw new IllegalArgumentException("Unknown phase: " + phase);
+        };
+    }
+
+    public static Board board(String fen) {
+        Board board = new Board();
+        Fen.load(fen, board);
+        return board;
+    }
+}
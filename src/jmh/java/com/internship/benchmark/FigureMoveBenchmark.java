@@ -0,0 +1,45 @@
+package com.internship.benchmark;
+
+import com.internship.model.FigureType;
+import com.internship.model.figure.Figure;
+import com.internship.model.figure.Position;
+import com.internship.model.game.Board;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FigureMoveBenchmark {
+    @Param({"OPENING", "MIDDLEGAME", "ENDGAME"})
+    private String phase;
+
+    @Param({"PAWN", "KNIGHT", "BISHOP", "ROOK", "QUEEN", "KING"})
+    private FigureType type;
+
+    private Board board;
+    private Figure[] figures;
+
+    @Setup
+    public void setUp() {
+        board = BenchmarkPositions.board(BenchmarkPositions.fen(phase));
+        figures = Arrays.stream(board.getCells())
+                .flatMap(Arrays::stream)
+                .filter(Objects::nonNull)
+                .filter(figure -> figure.getType() == type)
+                .toArray(Figure[]::new);
+    }
+
+    @Benchmark
+    public void findPossibleMoves(Blackhole blackhole) {
+        for (Figure figure : figures) {
+            for (Position position : figure.findPossibleMoves(board)) {
+                blackhole.consume(position);
+            }
+        }
+    }
+}
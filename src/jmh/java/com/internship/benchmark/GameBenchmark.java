@@ -0,0 +1,28 @@
+package com.internship.benchmark;
+
+import com.internship.engine.RandomMoveStrategy;
+import com.internship.model.game.Game;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GameBenchmark {
+    @Param({"OPENING", "MIDDLEGAME", "ENDGAME"})
+    private String phase;
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5, batchSize = 20)
+    @Measurement(iterations = 10, batchSize = 20)
+    public Game fullGame() throws InterruptedException {
+        Game fullGame = new Game();
+        fullGame.prepareGame(BenchmarkPositions.fen(phase), new RandomMoveStrategy(), new RandomMoveStrategy());
+        fullGame.startGame();
+        fullGame.awaitEnd();
+        return fullGame;
+    }
+}
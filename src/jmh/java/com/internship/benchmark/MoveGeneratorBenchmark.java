@@ -0,0 +1,41 @@
+package com.internship.benchmark;
+
+import com.internship.model.bitboard.BitBoard;
+import com.internship.model.bitboard.MoveGenerator;
+import com.internship.notation.Fen;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoveGeneratorBenchmark {
+    @Param({"OPENING", "MIDDLEGAME", "ENDGAME"})
+    private String phase;
+
+    private BitBoard board;
+    private final int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+    @Setup
+    public void setUp() {
+        board = Fen.toBitBoard(BenchmarkPositions.fen(phase));
+    }
+
+    @Benchmark
+    public int legalMoves() {
+        return MoveGenerator.generateLegal(board, moves);
+    }
+
+    @Benchmark
+    public int filteredPseudoLegalMoves() {
+        int count = MoveGenerator.generate(board, moves);
+        int legalCount = 0;
+        for (int index = 0; index < count; index++) {
+            if (board.isLegal(moves[index])) {
+                legalCount++;
+            }
+        }
+        return legalCount;
+    }
+}
@@ -1,11 +1,59 @@
 package com.internship;
 
+import com.internship.model.game.Adjudication;
 import com.internship.model.game.Game;
+import com.internship.notation.BinaryGameWriter;
+import com.internship.notation.PgnWriter;
+import com.internship.output.AsyncMoveSink;
+import com.internship.simulation.SimulationRunner;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
 
 public class Main {
-    public static void main(String[] args) {
-        Game game = new Game();
-        game.prepareGame();
-        game.startGame();
+    private static final Adjudication SIMULATION_ADJUDICATION = new Adjudication(400, 1500, 10, 0, 0);
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        if (args.length > 0 && args[0].equals("--batch")) {
+            int games = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+            int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+            if (args.length > 3 && args[3].endsWith(".pgn")) {
+                try (Writer pgnArchive = Files.newBufferedWriter(Path.of(args[3]))) {
+                    System.out.println(new SimulationRunner(threads, SIMULATION_ADJUDICATION).run(games, round -> new PgnWriter(
+                            pgnArchive,
+                            Map.of("Event", "Simulation", "Round", String.valueOf(round))
+                    )));
+                }
+            } else if (args.length > 3) {
+                try (FileChannel archive = BinaryGameWriter.createArchive(Path.of(args[3]))) {
+                    System.out.println(new SimulationRunner(threads, SIMULATION_ADJUDICATION).run(
+                            games,
+                            round -> new BinaryGameWriter(archive)
+                    ));
+                }
+            } else {
+                System.out.println(new SimulationRunner(threads, SIMULATION_ADJUDICATION).run(games));
+            }
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--live")) {
+            int games = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+            System.out.println(new SimulationRunner(1, SIMULATION_ADJUDICATION).runLive(games));
+            return;
+        }
+        try (AsyncMoveSink moveSink = AsyncMoveSink.toConsole()) {
+            Game game = new Game(moveSink);
+            game.prepareGame();
+            game.startGame();
+            game.awaitEnd();
+            moveSink.close();
+            if (moveSink.getDroppedWrites() > 0) {
+                System.err.println("Move log dropped " + moveSink.getDroppedWrites() + " lines");
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,281 @@
+package com.internship.engine;
+
+import com.internship.model.bitboard.BitBoard;
+import com.internship.model.bitboard.Bitboards;
+import com.internship.model.bitboard.Move;
+import com.internship.model.bitboard.MoveGenerator;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.internship.engine.TranspositionTable.*;
+
+public class AlphaBetaSearch implements MoveStrategy {
+    public static final int INFINITY = 32000;
+    public static final int MATE = 31000;
+    public static final int MAX_PLY = 128;
+
+    private static final int CHECK_INTERVAL = 1023;
+    private static final int DEFAULT_TABLE_MEGABYTES = 16;
+    private static final int HISTORY_LIMIT = 1 << 20;
+
+    private final TranspositionTable table;
+    private final SearchLimits limits;
+    private final AtomicBoolean stopSignal;
+    private final int firstDepth;
+    private final BitBoard board = new BitBoard();
+    private final int[] rootMoves = new int[MoveGenerator.MAX_MOVES];
+    private final MovePicker[] pickers = new MovePicker[MAX_PLY];
+    private final int[][] killers = new int[MAX_PLY][2];
+    private final int[][] history = new int[2][Bitboards.SQUARES * Bitboards.SQUARES];
+    private final int[] exchangeGains = new int[StaticExchange.MAX_EXCHANGES];
+    private long nodes;
+    private long deadline;
+    private boolean stopped;
+    private int rootBestMove;
+    private int bestScore;
+    private int completedDepth;
+
+    public AlphaBetaSearch(SearchLimits limits) {
+        this(new TranspositionTable(DEFAULT_TABLE_MEGABYTES), limits);
+    }
+
+    public AlphaBetaSearch(TranspositionTable table, SearchLimits limits) {
+        this(table, limits, new AtomicBoolean(), 1);
+    }
+
+    AlphaBetaSearch(TranspositionTable table, SearchLimits limits, AtomicBoolean stopSignal, int firstDepth) {
+        this.table = table;
+        this.limits = limits;
+        this.stopSignal = stopSignal;
+        this.firstDepth = firstDepth;
+        for (int ply = 0; ply < MAX_PLY; ply++) {
+            pickers[ply] = new MovePicker();
+        }
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public int getBestScore() {
+        return bestScore;
+    }
+
+    public int getCompletedDepth() {
+        return completedDepth;
+    }
+
+    @Override
+    public int chooseMove(BitBoard position) {
+        table.newSearch();
+        return searchPosition(position);
+    }
+
+    int searchPosition(BitBoard position) {
+        board.copyFrom(position);
+        nodes = 0;
+        stopped = false;
+        deadline = limits.maxMillis() == Long.MAX_VALUE
+                ? Long.MAX_VALUE
+                : System.currentTimeMillis() + limits.maxMillis();
+        bestScore = 0;
+        completedDepth = 0;
+        if (MoveGenerator.generateLegal(board, rootMoves) == 0) {
+            return Move.NONE;
+        }
+        for (int[] plyKillers : killers) {
+            plyKillers[0] = Move.NONE;
+            plyKillers[1] = Move.NONE;
+        }
+        ageHistory();
+        int bestMove = rootMoves[0];
+        for (int depth = firstDepth; depth <= Math.min(limits.maxDepth(), MAX_PLY - 1); depth++) {
+            rootBestMove = Move.NONE;
+            int score = search(depth, -INFINITY, INFINITY, 0);
+            if (stopped) {
+                break;
+            }
+            bestMove = rootBestMove;
+            bestScore = score;
+            completedDepth = depth;
+            if (Math.abs(score) >= MATE - MAX_PLY) {
+                break;
+            }
+        }
+        return bestMove;
+    }
+
+    private int search(int depth, int alpha, int beta, int ply) {
+        int color = board.getSideToMove();
+        boolean inCheck = board.isInCheck(color);
+        if (inCheck) {
+            depth++;
+        }
+        if (depth <= 0) {
+            return quiesce(alpha, beta, ply, inCheck);
+        }
+        if (ply >= MAX_PLY - 1) {
+            return Evaluator.evaluate(board);
+        }
+        if (ply > 0 && (board.getHalfmoveClock() >= 100 || board.isInsufficientMaterial())) {
+            return 0;
+        }
+        if ((++nodes & CHECK_INTERVAL) == 0) {
+            checkLimits();
+        }
+        if (stopped) {
+            return 0;
+        }
+        boolean pvNode = beta - alpha > 1;
+        long key = board.getKey();
+        long entry = table.probe(key);
+        int hashMove = Move.NONE;
+        if (entry != MISS) {
+            hashMove = move(entry);
+            if (!pvNode && ply > 0 && depth(entry) >= depth) {
+                int score = fromTable(score(entry), ply);
+                int bound = bound(entry);
+                if (bound == BOUND_EXACT
+                        || (bound == BOUND_LOWER && score >= beta)
+                        || (bound == BOUND_UPPER && score <= alpha)) {
+                    return score;
+                }
+            }
+        }
+        MovePicker picker = pickers[ply];
+        picker.init(board, hashMove, killers[ply][0], killers[ply][1], history);
+        int originalAlpha = alpha;
+        int bestScore = -INFINITY;
+        int bestMove = Move.NONE;
+        int legalMoves = 0;
+        for (int move = picker.next(); move != Move.NONE; move = picker.next()) {
+            board.doMove(move);
+            legalMoves++;
+            int score;
+            if (legalMoves == 1) {
+                score = -search(depth - 1, -beta, -alpha, ply + 1);
+            } else {
+                score = -search(depth - 1, -alpha - 1, -alpha, ply + 1);
+                if (score > alpha && score < beta) {
+                    score = -search(depth - 1, -beta, -alpha, ply + 1);
+                }
+            }
+            board.undoMove(move);
+            if (stopped) {
+                return 0;
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = move;
+                if (score > alpha) {
+                    alpha = score;
+                    if (ply == 0) {
+                        rootBestMove = move;
+                    }
+                    if (alpha >= beta) {
+                        if (!Move.isCapture(move) && !Move.isPromotion(move)) {
+                            rememberQuietCutoff(move, color, depth, ply);
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+        if (legalMoves == 0) {
+            return inCheck ? -MATE + ply : 0;
+        }
+        int bound = bestScore >= beta ? BOUND_LOWER : bestScore > originalAlpha ? BOUND_EXACT : BOUND_UPPER;
+        table.store(key, bestMove, toTable(bestScore, ply), depth, bound);
+        return bestScore;
+    }
+
+    private int quiesce(int alpha, int beta, int ply, boolean inCheck) {
+        if ((++nodes & CHECK_INTERVAL) == 0) {
+            checkLimits();
+        }
+        if (stopped) {
+            return 0;
+        }
+        if (ply >= MAX_PLY - 1) {
+            return Evaluator.evaluate(board);
+        }
+        int bestScore = -INFINITY;
+        MovePicker picker = pickers[ply];
+        if (inCheck) {
+            picker.init(board, Move.NONE, Move.NONE, Move.NONE, history);
+        } else {
+            bestScore = Evaluator.evaluate(board);
+            if (bestScore >= beta) {
+                return bestScore;
+            }
+            alpha = Math.max(alpha, bestScore);
+            picker.initTactical(board);
+        }
+        int legalMoves = 0;
+        for (int move = picker.next(); move != Move.NONE; move = picker.next()) {
+            legalMoves++;
+            if (!inCheck && !Move.isPromotion(move) && StaticExchange.evaluate(board, move, exchangeGains) < 0) {
+                continue;
+            }
+            board.doMove(move);
+            int score = -quiesce(-beta, -alpha, ply + 1, board.isInCheck(board.getSideToMove()));
+            board.undoMove(move);
+            if (stopped) {
+                return 0;
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                if (score > alpha) {
+                    alpha = score;
+                    if (alpha >= beta) {
+                        break;
+                    }
+                }
+            }
+        }
+        if (inCheck && legalMoves == 0) {
+            return -MATE + ply;
+        }
+        return bestScore;
+    }
+
+    private void checkLimits() {
+        if (stopSignal.get() || nodes >= limits.maxNodes() || System.currentTimeMillis() >= deadline) {
+            stopped = true;
+        }
+    }
+
+    private void rememberQuietCutoff(int move, int color, int depth, int ply) {
+        if (killers[ply][0] != move) {
+            killers[ply][1] = killers[ply][0];
+            killers[ply][0] = move;
+        }
+        int index = Move.from(move) * Bitboards.SQUARES + Move.to(move);
+        history[color][index] += depth * depth;
+        if (history[color][index] > HISTORY_LIMIT) {
+            ageHistory();
+        }
+    }
+
+    private void ageHistory() {
+        for (int[] colorHistory : history) {
+            for (int index = 0; index < colorHistory.length; index++) {
+                colorHistory[index] >>= 1;
+            }
+        }
+    }
+
+    private static int toTable(int score, int ply) {
+        if (score >= MATE - MAX_PLY) {
+            return score + ply;
+        }
+        return score <= -MATE + MAX_PLY ? score - ply : score;
+    }
+
+    private static int fromTable(int score, int ply) {
+        if (score >= MATE - MAX_PLY) {
+            return score - ply;
+        }
+        return score <= -MATE + MAX_PLY ? score + ply : score;
+    }
+}
@@ -0,0 +1,18 @@
+package com.internship.engine;
+
+import com.internship.model.bitboard.BitBoard;
+import com.internship.model.bitboard.PieceSquareTables;
+
+public final class Evaluator {
+    public static final int[] FIGURE_VALUES = {100, 320, 330, 500, 900, 0};
+
+    private Evaluator() {
+    }
+
+    public static int evaluate(BitBoard board) {
+        int phase = Math.min(board.getPhase(), PieceSquareTables.MAX_PHASE);
+        int score = (board.getMiddlegameScore() * phase
+                + board.getEndgameScore() * (PieceSquareTables.MAX_PHASE - phase)) / PieceSquareTables.MAX_PHASE;
+        return board.getSideToMove() == BitBoard.WHITE ? score : -score;
+    }
+}
@@ -0,0 +1,89 @@
+package com.internship.engine;
+
+import com.internship.model.bitboard.BitBoard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class LazySmpSearch implements MoveStrategy, AutoCloseable {
+    private final TranspositionTable table;
+    private final AtomicBoolean stopSignal = new AtomicBoolean();
+    private final AlphaBetaSearch[] searches;
+    private final ExecutorService helpers;
+
+    public LazySmpSearch(int threads, int tableMegabytes, SearchLimits limits) {
+        this(threads, new TranspositionTable(tableMegabytes), limits);
+    }
+
+    public LazySmpSearch(int threads, TranspositionTable table, SearchLimits limits) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Search needs at least one thread, got " + threads);
+        }
+        this.table = table;
+        searches = new AlphaBetaSearch[threads];
+        searches[0] = new AlphaBetaSearch(table, limits, stopSignal, 1);
+        SearchLimits helperLimits = new SearchLimits(limits.maxDepth(), Long.MAX_VALUE, limits.maxMillis());
+        for (int thread = 1; thread < threads; thread++) {
+            searches[thread] = new AlphaBetaSearch(table, helperLimits, stopSignal, 1 + thread % 2);
+        }
+        helpers = threads == 1 ? null : Executors.newFixedThreadPool(threads - 1, runnable -> {
+            Thread thread = new Thread(runnable, "lazy-smp-helper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public long getNodes() {
+        long nodes = 0;
+        for (AlphaBetaSearch search : searches) {
+            nodes += search.getNodes();
+        }
+        return nodes;
+    }
+
+    @Override
+    public int chooseMove(BitBoard position) {
+        table.newSearch();
+        stopSignal.set(false);
+        List<Future<Integer>> results = new ArrayList<>(searches.length - 1);
+        for (int thread = 1; thread < searches.length; thread++) {
+            AlphaBetaSearch search = searches[thread];
+            results.add(helpers.submit(() -> search.searchPosition(position)));
+        }
+        int bestMove = searches[0].searchPosition(position);
+        stopSignal.set(true);
+        int bestDepth = searches[0].getCompletedDepth();
+        for (int thread = 1; thread < searches.length; thread++) {
+            int move = await(results.get(thread - 1));
+            if (searches[thread].getCompletedDepth() > bestDepth) {
+                bestDepth = searches[thread].getCompletedDepth();
+                bestMove = move;
+            }
+        }
+        return bestMove;
+    }
+
+    @Override
+    public void close() {
+        if (helpers != null) {
+            stopSignal.set(true);
+            helpers.shutdownNow();
+        }
+    }
+
+    private static int await(Future<Integer> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.internship.engine;
+
+import com.internship.model.bitboard.BitBoard;
+import com.internship.model.bitboard.Bitboards;
+import com.internship.model.bitboard.Move;
+import com.internship.model.bitboard.MoveGenerator;
+
+final class MovePicker {
+    private static final int HASH_MOVE = 0;
+    private static final int GENERATE_TACTICAL = 1;
+    private static final int TACTICAL = 2;
+    private static final int GENERATE_QUIET = 3;
+    private static final int FIRST_KILLER = 4;
+    private static final int SECOND_KILLER = 5;
+    private static final int QUIET = 6;
+    private static final int DONE = 7;
+
+    private final int[] moves = new int[MoveGenerator.MAX_MOVES];
+    private final int[] scores = new int[MoveGenerator.MAX_MOVES];
+    private BitBoard board;
+    private int[][] history;
+    private int hashMove;
+    private int firstKiller;
+    private int secondKiller;
+    private int stage;
+    private int index;
+    private int count;
+    private boolean tacticalOnly;
+
+    void init(BitBoard board, int hashMove, int firstKiller, int secondKiller, int[][] history) {
+        this.board = board;
+        this.hashMove = hashMove;
+        this.firstKiller = firstKiller;
+        this.secondKiller = secondKiller;
+        this.history = history;
+        tacticalOnly = false;
+        stage = HASH_MOVE;
+    }
+
+    void initTactical(BitBoard board) {
+        this.board = board;
+        hashMove = Move.NONE;
+        tacticalOnly = true;
+        stage = GENERATE_TACTICAL;
+    }
+
+    int next() {
+        while (true) {
+            switch (stage) {
+                case HASH_MOVE -> {
+                    stage = GENERATE_TACTICAL;
+                    if (hashMove != Move.NONE && isLegal(hashMove)) {
+                        return hashMove;
+                    }
+                    hashMove = Move.NONE;
+                }
+                case GENERATE_TACTICAL -> {
+                    count = MoveGenerator.generateLegal(board, moves, MoveGenerator.TACTICAL_MOVES);
+                    for (int position = 0; position < count; position++) {
+                        scores[position] = mvvLva(moves[position]);
+                    }
+                    index = 0;
+                    stage = TACTICAL;
+                }
+                case TACTICAL -> {
+                    if (index == count) {
+                        stage = tacticalOnly ? DONE : GENERATE_QUIET;
+                        continue;
+                    }
+                    int move = pickBest();
+                    if (move != hashMove) {
+                        return move;
+                    }
+                }
+                case GENERATE_QUIET -> {
+                    count = MoveGenerator.generateLegal(board, moves, MoveGenerator.QUIET_MOVES);
+                    int color = board.getSideToMove();
+                    for (int position = 0; position < count; position++) {
+                        scores[position] = history[color][Move.from(moves[position]) * Bitboards.SQUARES
+                                + Move.to(moves[position])];
+                    }
+                    index = 0;
+                    stage = FIRST_KILLER;
+                }
+                case FIRST_KILLER -> {
+                    stage = SECOND_KILLER;
+                    if (firstKiller != hashMove && take(firstKiller)) {
+                        return firstKiller;
+                    }
+                }
+                case SECOND_KILLER -> {
+                    stage = QUIET;
+                    if (secondKiller != hashMove && secondKiller != firstKiller && take(secondKiller)) {
+                        return secondKiller;
+                    }
+                }
+                case QUIET -> {
+                    if (index == count) {
+                        stage = DONE;
+                        continue;
+                    }
+                    int move = pickBest();
+                    if (move != hashMove && move != firstKiller && move != secondKiller) {
+                        return move;
+                    }
+                }
+                default -> {
+                    return Move.NONE;
+                }
+            }
+        }
+    }
+
+    private boolean isLegal(int move) {
+        int sourceCount = MoveGenerator.generateLegal(
+                board,
+                moves,
+                MoveGenerator.ALL_MOVES,
+                Bitboards.bit(Move.from(move))
+        );
+        for (int position = 0; position < sourceCount; position++) {
+            if (moves[position] == move) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean take(int move) {
+        if (move == Move.NONE) {
+            return false;
+        }
+        for (int position = index; position < count; position++) {
+            if (moves[position] == move) {
+                swap(position, index++);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int pickBest() {
+        int best = index;
+        for (int position = index + 1; position < count; position++) {
+            if (scores[position] > scores[best]) {
+                best = position;
+            }
+        }
+        swap(best, index);
+        return moves[index++];
+    }
+
+    private void swap(int first, int second) {
+        int move = moves[first];
+        moves[first] = moves[second];
+        moves[second] = move;
+        int score = scores[first];
+        scores[first] = scores[second];
+        scores[second] = score;
+    }
+
+    private int mvvLva(int move) {
+        int score = 0;
+        if (Move.isCapture(move)) {
+            int victim = board.getPiece(Move.to(move));
+            score += Evaluator.FIGURE_VALUES[victim == BitBoard.NO_PIECE ? BitBoard.PAWN : BitBoard.typeOf(victim)] * 8;
+        }
+        if (Move.isPromotion(move)) {
+            score += Evaluator.FIGURE_VALUES[Move.promotionType(move)] * 8;
+        }
+        return score - BitBoard.typeOf(board.getPiece(Move.from(move)));
+    }
+}
@@ -0,0 +1,7 @@
+package com.internship.engine;
+
+import com.internship.model.bitboard.BitBoard;
+
+public interface MoveStrategy {
+    int chooseMove(BitBoard position);
+}
@@ -0,0 +1,75 @@
+package com.internship.engine;
+
+import com.internship.model.bitboard.BitBoard;
+import com.internship.model.bitboard.Move;
+import com.internship.model.bitboard.MoveGenerator;
+import com.internship.notation.Fen;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class Perft {
+    private final BitBoard board;
+    private final int[][] moves;
+
+    public Perft(BitBoard board, int maxDepth) {
+        this.board = board;
+        moves = new int[maxDepth + 1][MoveGenerator.MAX_MOVES];
+    }
+
+    public long count(int depth) {
+        if (depth == 0) {
+            return 1;
+        }
+        int[] list = moves[depth];
+        int count = MoveGenerator.generateLegal(board, list);
+        if (depth == 1) {
+            return count;
+        }
+        long nodes = 0;
+        for (int index = 0; index < count; index++) {
+            board.doMove(list[index]);
+            nodes += count(depth - 1);
+            board.undoMove(list[index]);
+        }
+        return nodes;
+    }
+
+    public Map<String, Long> divide(int depth) {
+        Map<String, Long> nodesByMove = new LinkedHashMap<>();
+        int[] list = moves[depth];
+        int count = MoveGenerator.generateLegal(board, list);
+        for (int index = 0; index < count; index++) {
+            board.doMove(list[index]);
+            nodesByMove.put(Move.toString(list[index]), count(depth - 1));
+            board.undoMove(list[index]);
+        }
+        return nodesByMove;
+    }
+
+    public static void main(String[] args) {
+        int depth = args.length < 1 ? 0 : Integer.parseInt(args[0]);
+        if (depth < 1) {
+            System.out.println("Usage: Perft <depth> [fen]");
+            return;
+        }
+        String fen = args.length > 1
+                ? String.join(" ", Arrays.copyOfRange(args, 1, args.length))
+                : Fen.START_POSITION;
+        Perft perft = new Perft(Fen.toBitBoard(fen), depth);
+        long start = System.nanoTime();
+        Map<String, Long> nodesByMove = perft.divide(depth);
+        long elapsed = Math.max(1, System.nanoTime() - start);
+        long nodes = 0;
+        for (Map.Entry<String, Long> entry : nodesByMove.entrySet()) {
+            System.out.printf("%s: %d\n", entry.getKey(), entry.getValue());
+            nodes += entry.getValue();
+        }
+        System.out.printf("\nNodes: %d\nTime: %d ms\nNPS: %d\n",
+                nodes,
+                elapsed / 1_000_000,
+                nodes * 1_000_000_000L / elapsed
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.internship.engine;
+
+import com.internship.model.bitboard.BitBoard;
+import com.internship.model.bitboard.Move;
+import com.internship.model.bitboard.MoveGenerator;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+public class RandomMoveStrategy implements MoveStrategy {
+    private final int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+    @Override
+    public int chooseMove(BitBoard position) {
+        int count = MoveGenerator.generateLegal(position, moves);
+        if (count == 0) {
+            return Move.NONE;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long figures = 0L;
+        for (int index = 0; index < count; index++) {
+            figures |= 1L << Move.from(moves[index]);
+        }
+        for (int skip = random.nextInt(Long.bitCount(figures)); skip > 0; skip--) {
+            figures &= figures - 1;
+        }
+        int from = Long.numberOfTrailingZeros(figures);
+        int figureMoves = 0;
+        for (int index = 0; index < count; index++) {
+            if (Move.from(moves[index]) == from) {
+                moves[figureMoves++] = moves[index];
+            }
+        }
+        return moves[random.nextInt(figureMoves)];
+    }
+}
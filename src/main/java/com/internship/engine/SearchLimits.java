@@ -0,0 +1,17 @@
+package com.internship.engine;
+
+public record SearchLimits(int maxDepth, long maxNodes, long maxMillis) {
+    public static final int MAX_DEPTH = 64;
+
+    public static SearchLimits depth(int maxDepth) {
+        return new SearchLimits(maxDepth, Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    public static SearchLimits nodes(long maxNodes) {
+        return new SearchLimits(MAX_DEPTH, maxNodes, Long.MAX_VALUE);
+    }
+
+    public static SearchLimits millis(long maxMillis) {
+        return new SearchLimits(MAX_DEPTH, Long.MAX_VALUE, maxMillis);
+    }
+}
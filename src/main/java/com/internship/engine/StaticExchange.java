@@ -0,0 +1,65 @@
+package com.internship.engine;
+
+import com.internship.model.bitboard.BitBoard;
+import com.internship.model.bitboard.Bitboards;
+import com.internship.model.bitboard.Move;
+
+public final class StaticExchange {
+    private static final int KING_VALUE = 20000;
+    private static final int[] VALUES = values();
+    public static final int MAX_EXCHANGES = 32;
+
+    private StaticExchange() {
+    }
+
+    public static int evaluate(BitBoard board, int move) {
+        return evaluate(board, move, new int[MAX_EXCHANGES]);
+    }
+
+    public static int evaluate(BitBoard board, int move, int[] gain) {
+        int from = Move.from(move);
+        int to = Move.to(move);
+        int attacker = BitBoard.typeOf(board.getPiece(from));
+        long occupancy = board.getOccupancy() ^ Bitboards.bit(from);
+        gain[0] = 0;
+        if (Move.flag(move) == Move.EN_PASSANT) {
+            gain[0] = VALUES[BitBoard.PAWN];
+            occupancy ^= Bitboards.bit(to + (board.getSideToMove() == BitBoard.WHITE ? -8 : 8));
+        } else if (board.getPiece(to) != BitBoard.NO_PIECE) {
+            gain[0] = VALUES[BitBoard.typeOf(board.getPiece(to))];
+        }
+        if (Move.isPromotion(move)) {
+            attacker = Move.promotionType(move);
+            gain[0] += VALUES[attacker] - VALUES[BitBoard.PAWN];
+        }
+        int color = board.getSideToMove() ^ 1;
+        int depth = 0;
+        while (depth + 1 < MAX_EXCHANGES) {
+            depth++;
+            gain[depth] = VALUES[attacker] - gain[depth - 1];
+            long attackers = board.attackersOf(to, color, occupancy) & occupancy;
+            if (attackers == 0) {
+                break;
+            }
+            for (int type = BitBoard.PAWN; type <= BitBoard.KING; type++) {
+                long candidates = attackers & board.getPieces(color, type);
+                if (candidates != 0) {
+                    occupancy ^= candidates & -candidates;
+                    attacker = type;
+                    break;
+                }
+            }
+            color ^= 1;
+        }
+        while (--depth > 0) {
+            gain[depth - 1] = -Math.max(-gain[depth - 1], gain[depth]);
+        }
+        return gain[0];
+    }
+
+    private static int[] values() {
+        int[] values = Evaluator.FIGURE_VALUES.clone();
+        values[BitBoard.KING] = KING_VALUE;
+        return values;
+    }
+}
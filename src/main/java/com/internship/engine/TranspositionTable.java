@@ -0,0 +1,118 @@
+package com.internship.engine;
+
+import java.util.Arrays;
+
+public class TranspositionTable {
+    public static final int BOUND_NONE = 0;
+    public static final int BOUND_UPPER = 1;
+    public static final int BOUND_LOWER = 2;
+    public static final int BOUND_EXACT = 3;
+    public static final long MISS = 0L;
+
+    private static final int ENTRY_LONGS = 2;
+    private static final int BUCKET_ENTRIES = 2;
+    private static final int BUCKET_LONGS = ENTRY_LONGS * BUCKET_ENTRIES;
+    private static final int BYTES_PER_BUCKET = BUCKET_LONGS * Long.BYTES;
+    private static final long MAX_BUCKETS = 1L << 28;
+
+    private final long[] table;
+    private final long bucketMask;
+    private volatile int generation;
+
+    public TranspositionTable(int megabytes) {
+        long buckets = Math.min(
+                Long.highestOneBit(Math.max(1L, ((long) megabytes << 20) / BYTES_PER_BUCKET)),
+                MAX_BUCKETS
+        );
+        table = new long[(int) (buckets * BUCKET_LONGS)];
+        bucketMask = buckets - 1;
+    }
+
+    public static int move(long data) {
+        return (int) (data & 0xFFFF);
+    }
+
+    public static int score(long data) {
+        return (short) (data >>> 16);
+    }
+
+    public static int depth(long data) {
+        return (int) ((data >>> 32) & 0xFF);
+    }
+
+    public static int bound(long data) {
+        return (int) ((data >>> 40) & 0x3);
+    }
+
+    private static int generation(long data) {
+        return (int) ((data >>> 42) & 0x3F);
+    }
+
+    public long probe(long key) {
+        int bucket = bucketIndex(key);
+        for (int entry = bucket; entry < bucket + BUCKET_LONGS; entry += ENTRY_LONGS) {
+            long data = table[entry + 1];
+            if ((table[entry] ^ data) == key && bound(data) != BOUND_NONE) {
+                return data;
+            }
+        }
+        return MISS;
+    }
+
+    public void store(long key, int move, int score, int depth, int bound) {
+        int bucket = bucketIndex(key);
+        int replace = bucket;
+        int lowestPriority = Integer.MAX_VALUE;
+        for (int entry = bucket; entry < bucket + BUCKET_LONGS; entry += ENTRY_LONGS) {
+            long data = table[entry + 1];
+            if ((table[entry] ^ data) == key) {
+                if (move == 0) {
+                    move = move(data);
+                }
+                if (bound != BOUND_EXACT && depth < depth(data) - 2) {
+                    return;
+                }
+                replace = entry;
+                break;
+            }
+            int age = (generation - generation(data)) & 0x3F;
+            int priority = bound(data) == BOUND_NONE ? Integer.MIN_VALUE : depth(data) - 8 * age;
+            if (priority < lowestPriority) {
+                lowestPriority = priority;
+                replace = entry;
+            }
+        }
+        long data = (move & 0xFFFFL)
+                | (score & 0xFFFFL) << 16
+                | (long) Math.min(Math.max(depth, 0), 0xFF) << 32
+                | (long) bound << 40
+                | (long) (generation & 0x3F) << 42;
+        table[replace] = key ^ data;
+        table[replace + 1] = data;
+    }
+
+    public void newSearch() {
+        generation = (generation + 1) & 0x3F;
+    }
+
+    public void clear() {
+        Arrays.fill(table, 0L);
+        generation = 0;
+    }
+
+    public int hashfull() {
+        int used = 0;
+        int sampled = Math.min(1000, table.length / ENTRY_LONGS);
+        for (int entry = 0; entry < sampled; entry++) {
+            long data = table[entry * ENTRY_LONGS + 1];
+            if (bound(data) != BOUND_NONE && generation(data) == generation) {
+                used++;
+            }
+        }
+        return used * 1000 / Math.max(1, sampled);
+    }
+
+    private int bucketIndex(long key) {
+        return (int) ((key ^ (key >>> 32)) & bucketMask) * BUCKET_LONGS;
+    }
+}
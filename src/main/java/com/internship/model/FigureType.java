@@ -0,0 +1,5 @@
+package com.internship.model;
+
+public enum FigureType {
+    PAWN, KNIGHT, BISHOP, ROOK, QUEEN, KING
+}
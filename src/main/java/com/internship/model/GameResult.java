@@ -0,0 +1,5 @@
+package com.internship.model;
+
+public enum GameResult {
+    WHITE_WINS, BLACK_WINS, DRAW
+}
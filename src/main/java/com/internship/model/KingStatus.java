@@ -1,5 +0,0 @@
-package com.internship.model;
-
-public enum KingStatus {
-    SAFE, MOVED, PROTECTED, CHECKMATED
-}
@@ -0,0 +1,375 @@
+package com.internship.model.bitboard;
+
+import com.internship.model.CellStatus;
+import com.internship.model.FigureType;
+import com.internship.model.Team;
+
+import java.util.Arrays;
+
+public class BitBoard {
+    public static final int WHITE = 0;
+    public static final int BLACK = 1;
+    public static final int PAWN = 0;
+    public static final int KNIGHT = 1;
+    public static final int BISHOP = 2;
+    public static final int ROOK = 3;
+    public static final int QUEEN = 4;
+    public static final int KING = 5;
+    public static final int TYPES = 6;
+    public static final int NO_PIECE = -1;
+    public static final int NO_SQUARE = -1;
+    public static final int WHITE_KINGSIDE = 1;
+    public static final int WHITE_QUEENSIDE = 2;
+    public static final int BLACK_KINGSIDE = 4;
+    public static final int BLACK_QUEENSIDE = 8;
+
+    private static final int[] CASTLING_MASKS = new int[Bitboards.SQUARES];
+    private static final long MATING_MATERIAL = materialMask(piece(WHITE, PAWN)) | materialMask(piece(WHITE, ROOK))
+            | materialMask(piece(WHITE, QUEEN)) | materialMask(piece(BLACK, PAWN))
+            | materialMask(piece(BLACK, ROOK)) | materialMask(piece(BLACK, QUEEN));
+
+    static {
+        Arrays.fill(CASTLING_MASKS, WHITE_KINGSIDE | WHITE_QUEENSIDE | BLACK_KINGSIDE | BLACK_QUEENSIDE);
+        CASTLING_MASKS[0] &= ~WHITE_QUEENSIDE;
+        CASTLING_MASKS[4] &= ~(WHITE_KINGSIDE | WHITE_QUEENSIDE);
+        CASTLING_MASKS[7] &= ~WHITE_KINGSIDE;
+        CASTLING_MASKS[56] &= ~BLACK_QUEENSIDE;
+        CASTLING_MASKS[60] &= ~(BLACK_KINGSIDE | BLACK_QUEENSIDE);
+        CASTLING_MASKS[63] &= ~BLACK_KINGSIDE;
+    }
+
+    private final long[] pieces = new long[2 * TYPES];
+    private final long[] occupancy = new long[2];
+    private long allOccupancy;
+    private final byte[] squares = new byte[Bitboards.SQUARES];
+    private int sideToMove = WHITE;
+    private int castlingRights;
+    private int enPassantSquare = NO_SQUARE;
+    private int halfmoveClock;
+    private int fullmoveNumber = 1;
+    private int middlegameScore;
+    private int endgameScore;
+    private int phase;
+    private long materialKey;
+    private long key;
+    private long[] undoStack = new long[64];
+    private long[] keyStack = new long[64];
+    private int undoCount;
+
+    public BitBoard() {
+        Arrays.fill(squares, (byte) NO_PIECE);
+    }
+
+    public static int piece(int color, int type) {
+        return color * TYPES + type;
+    }
+
+    public static int piece(Team team, FigureType type) {
+        return piece(team.ordinal(), type.ordinal());
+    }
+
+    public static int colorOf(int piece) {
+        return piece / TYPES;
+    }
+
+    public static int typeOf(int piece) {
+        return piece % TYPES;
+    }
+
+    private static long materialMask(int piece) {
+        return 0xFL << (piece << 2);
+    }
+
+    public void putPiece(int square, int piece) {
+        long bit = Bitboards.bit(square);
+        pieces[piece] |= bit;
+        occupancy[colorOf(piece)] |= bit;
+        allOccupancy |= bit;
+        squares[square] = (byte) piece;
+        key ^= Zobrist.piece(piece, square);
+        middlegameScore += PieceSquareTables.middlegame(piece, square);
+        endgameScore += PieceSquareTables.endgame(piece, square);
+        phase += PieceSquareTables.phase(piece);
+        materialKey += 1L << (piece << 2);
+    }
+
+    public void removePiece(int square) {
+        int piece = squares[square];
+        if (piece == NO_PIECE) {
+            return;
+        }
+        long bit = ~Bitboards.bit(square);
+        pieces[piece] &= bit;
+        occupancy[colorOf(piece)] &= bit;
+        allOccupancy &= bit;
+        squares[square] = NO_PIECE;
+        key ^= Zobrist.piece(piece, square);
+        middlegameScore -= PieceSquareTables.middlegame(piece, square);
+        endgameScore -= PieceSquareTables.endgame(piece, square);
+        phase -= PieceSquareTables.phase(piece);
+        materialKey -= 1L << (piece << 2);
+    }
+
+    public void clear() {
+        Arrays.fill(pieces, 0L);
+        Arrays.fill(occupancy, 0L);
+        allOccupancy = 0L;
+        Arrays.fill(squares, (byte) NO_PIECE);
+        sideToMove = WHITE;
+        castlingRights = 0;
+        enPassantSquare = NO_SQUARE;
+        halfmoveClock = 0;
+        fullmoveNumber = 1;
+        middlegameScore = 0;
+        endgameScore = 0;
+        phase = 0;
+        materialKey = 0L;
+        key = 0L;
+        undoCount = 0;
+    }
+
+    public void copyFrom(BitBoard other) {
+        System.arraycopy(other.pieces, 0, pieces, 0, pieces.length);
+        System.arraycopy(other.occupancy, 0, occupancy, 0, occupancy.length);
+        System.arraycopy(other.squares, 0, squares, 0, squares.length);
+        allOccupancy = other.allOccupancy;
+        sideToMove = other.sideToMove;
+        castlingRights = other.castlingRights;
+        enPassantSquare = other.enPassantSquare;
+        halfmoveClock = other.halfmoveClock;
+        fullmoveNumber = other.fullmoveNumber;
+        middlegameScore = other.middlegameScore;
+        endgameScore = other.endgameScore;
+        phase = other.phase;
+        materialKey = other.materialKey;
+        key = other.key;
+        undoCount = 0;
+    }
+
+    public int getSideToMove() {
+        return sideToMove;
+    }
+
+    public void setSideToMove(int sideToMove) {
+        if (this.sideToMove != sideToMove) {
+            key ^= Zobrist.side();
+        }
+        this.sideToMove = sideToMove;
+    }
+
+    public int getCastlingRights() {
+        return castlingRights;
+    }
+
+    public void setCastlingRights(int castlingRights) {
+        key ^= Zobrist.castling(this.castlingRights) ^ Zobrist.castling(castlingRights);
+        this.castlingRights = castlingRights;
+    }
+
+    public int getEnPassantSquare() {
+        return enPassantSquare;
+    }
+
+    public void setEnPassantSquare(int enPassantSquare) {
+        key ^= Zobrist.enPassant(this.enPassantSquare) ^ Zobrist.enPassant(enPassantSquare);
+        this.enPassantSquare = enPassantSquare;
+    }
+
+    public long getKey() {
+        return key;
+    }
+
+    public int getHalfmoveClock() {
+        return halfmoveClock;
+    }
+
+    public void setHalfmoveClock(int halfmoveClock) {
+        this.halfmoveClock = halfmoveClock;
+    }
+
+    public int getFullmoveNumber() {
+        return fullmoveNumber;
+    }
+
+    public void setFullmoveNumber(int fullmoveNumber) {
+        this.fullmoveNumber = fullmoveNumber;
+    }
+
+    public int getMiddlegameScore() {
+        return middlegameScore;
+    }
+
+    public int getEndgameScore() {
+        return endgameScore;
+    }
+
+    public int getPhase() {
+        return phase;
+    }
+
+    public long getMaterialKey() {
+        return materialKey;
+    }
+
+    public int countPieces(int piece) {
+        return (int) (materialKey >>> (piece << 2)) & 0xF;
+    }
+
+    public boolean isInsufficientMaterial() {
+        if ((materialKey & MATING_MATERIAL) != 0) {
+            return false;
+        }
+        int knights = countPieces(piece(WHITE, KNIGHT)) + countPieces(piece(BLACK, KNIGHT));
+        int bishops = countPieces(piece(WHITE, BISHOP)) + countPieces(piece(BLACK, BISHOP));
+        if (knights + bishops <= 1) {
+            return true;
+        }
+        long bishopSquares = pieces[piece(WHITE, BISHOP)] | pieces[piece(BLACK, BISHOP)];
+        return knights == 0
+                && ((bishopSquares & Bitboards.LIGHT_SQUARES) == 0 || (bishopSquares & ~Bitboards.LIGHT_SQUARES) == 0);
+    }
+
+    public void doMove(int move) {
+        int from = Move.from(move);
+        int to = Move.to(move);
+        int flag = Move.flag(move);
+        int piece = squares[from];
+        int color = sideToMove;
+        int captureSquare = flag == Move.EN_PASSANT ? to + (color == WHITE ? -8 : 8) : to;
+        int captured = squares[captureSquare];
+        pushUndo(captured);
+        halfmoveClock = typeOf(piece) == PAWN || captured != NO_PIECE ? 0 : halfmoveClock + 1;
+        if (captured != NO_PIECE) {
+            removePiece(captureSquare);
+        }
+        removePiece(from);
+        putPiece(to, Move.isPromotion(move) ? piece(color, Move.promotionType(move)) : piece);
+        if (flag == Move.KING_CASTLE) {
+            movePiece(from + 3, from + 1);
+        } else if (flag == Move.QUEEN_CASTLE) {
+            movePiece(from - 4, from - 1);
+        }
+        setCastlingRights(castlingRights & CASTLING_MASKS[from] & CASTLING_MASKS[to]);
+        setEnPassantSquare(flag == Move.DOUBLE_PAWN_PUSH ? (from + to) >>> 1 : NO_SQUARE);
+        setSideToMove(color ^ 1);
+        if (color == BLACK) {
+            fullmoveNumber++;
+        }
+    }
+
+    public void undoMove(int move) {
+        int from = Move.from(move);
+        int to = Move.to(move);
+        int flag = Move.flag(move);
+        long undo = undoStack[--undoCount];
+        int color = sideToMove ^ 1;
+        sideToMove = color;
+        if (color == BLACK) {
+            fullmoveNumber--;
+        }
+        int piece = squares[to];
+        removePiece(to);
+        putPiece(from, Move.isPromotion(move) ? piece(color, PAWN) : piece);
+        if (flag == Move.KING_CASTLE) {
+            movePiece(from + 1, from + 3);
+        } else if (flag == Move.QUEEN_CASTLE) {
+            movePiece(from - 1, from - 4);
+        }
+        int captured = (int) (undo & 0xF) - 1;
+        if (captured != NO_PIECE) {
+            putPiece(flag == Move.EN_PASSANT ? to + (color == WHITE ? -8 : 8) : to, captured);
+        }
+        castlingRights = (int) (undo >>> 4) & 0xF;
+        enPassantSquare = (int) ((undo >>> 8) & 0x7F) - 1;
+        halfmoveClock = (int) (undo >>> 16);
+        key = keyStack[undoCount];
+    }
+
+    public boolean isLegal(int move) {
+        int color = sideToMove;
+        doMove(move);
+        boolean legal = !isInCheck(color);
+        undoMove(move);
+        return legal;
+    }
+
+    private void movePiece(int from, int to) {
+        int piece = squares[from];
+        removePiece(from);
+        putPiece(to, piece);
+    }
+
+    private void pushUndo(int captured) {
+        if (undoCount == undoStack.length) {
+            undoStack = Arrays.copyOf(undoStack, undoCount * 2);
+            keyStack = Arrays.copyOf(keyStack, undoCount * 2);
+        }
+        keyStack[undoCount] = key;
+        undoStack[undoCount++] = (captured + 1)
+                | (long) castlingRights << 4
+                | (long) (enPassantSquare + 1) << 8
+                | (long) halfmoveClock << 16;
+    }
+
+    public int getPiece(int square) {
+        return squares[square];
+    }
+
+    public long getPieces(int piece) {
+        return pieces[piece];
+    }
+
+    public long getPieces(int color, int type) {
+        return pieces[piece(color, type)];
+    }
+
+    public long getOccupancy(int color) {
+        return occupancy[color];
+    }
+
+    public long getOccupancy() {
+        return allOccupancy;
+    }
+
+    public boolean isOccupied(int square) {
+        return Bitboards.contains(allOccupancy, square);
+    }
+
+    public CellStatus getCellStatus(int square, Team team) {
+        long bit = Bitboards.bit(square);
+        if ((allOccupancy & bit) == 0) {
+            return CellStatus.EMPTY;
+        }
+        int color = team.ordinal();
+        if ((occupancy[color] & bit) != 0) {
+            return CellStatus.SAME_TEAM;
+        }
+        if ((pieces[piece(color ^ 1, KING)] & bit) != 0) {
+            return CellStatus.OPPONENT_KING;
+        }
+        return CellStatus.OTHER_TEAM;
+    }
+
+    public boolean isAttacked(int square, int byColor) {
+        int base = byColor * TYPES;
+        return (Attacks.pawn(byColor ^ 1, square) & pieces[base + PAWN]) != 0
+                || (Attacks.knight(square) & pieces[base + KNIGHT]) != 0
+                || (Attacks.king(square) & pieces[base + KING]) != 0
+                || (Attacks.bishop(square, allOccupancy) & (pieces[base + BISHOP] | pieces[base + QUEEN])) != 0
+                || (Attacks.rook(square, allOccupancy) & (pieces[base + ROOK] | pieces[base + QUEEN])) != 0;
+    }
+
+    public long attackersOf(int square, int byColor, long occupancy) {
+        int base = byColor * TYPES;
+        return (Attacks.pawn(byColor ^ 1, square) & pieces[base + PAWN])
+                | (Attacks.knight(square) & pieces[base + KNIGHT])
+                | (Attacks.king(square) & pieces[base + KING])
+                | (Attacks.bishop(square, occupancy) & (pieces[base + BISHOP] | pieces[base + QUEEN]))
+                | (Attacks.rook(square, occupancy) & (pieces[base + ROOK] | pieces[base + QUEEN]));
+    }
+
+    public boolean isInCheck(int color) {
+        long king = pieces[piece(color, KING)];
+        return king != 0 && isAttacked(Bitboards.lowestSquare(king), color ^ 1);
+    }
+}
@@ -0,0 +1,43 @@
+package com.internship.model.bitboard;
+
+import com.internship.model.game.Board;
+
+public final class Bitboards {
+    public static final int SQUARES = Board.WIDTH * Board.HEIGHT;
+    public static final long FILE_A = 0x0101010101010101L;
+    public static final long FILE_H = FILE_A << 7;
+    public static final long RANK_1 = 0xFFL;
+    public static final long RANK_8 = RANK_1 << 56;
+    public static final long LIGHT_SQUARES = 0x55AA55AA55AA55AAL;
+
+    private Bitboards() {
+    }
+
+    public static int square(int x, int y) {
+        return y * Board.WIDTH + x;
+    }
+
+    public static int file(int square) {
+        return square & 7;
+    }
+
+    public static int rank(int square) {
+        return square >>> 3;
+    }
+
+    public static long bit(int square) {
+        return 1L << square;
+    }
+
+    public static boolean contains(long bitboard, int square) {
+        return (bitboard & (1L << square)) != 0;
+    }
+
+    public static int lowestSquare(long bitboard) {
+        return Long.numberOfTrailingZeros(bitboard);
+    }
+
+    public static int count(long bitboard) {
+        return Long.bitCount(bitboard);
+    }
+}
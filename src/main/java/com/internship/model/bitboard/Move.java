@@ -0,0 +1,66 @@
+package com.internship.model.bitboard;
+
+public final class Move {
+    public static final int NONE = 0;
+    public static final int QUIET = 0;
+    public static final int DOUBLE_PAWN_PUSH = 1;
+    public static final int KING_CASTLE = 2;
+    public static final int QUEEN_CASTLE = 3;
+    public static final int CAPTURE = 4;
+    public static final int EN_PASSANT = 5;
+    public static final int PROMOTION = 8;
+    public static final int KNIGHT_PROMOTION = 8;
+    public static final int BISHOP_PROMOTION = 9;
+    public static final int ROOK_PROMOTION = 10;
+    public static final int QUEEN_PROMOTION = 11;
+
+    private static final String PROMOTION_NAMES = "nbrq";
+
+    private Move() {
+    }
+
+    public static int of(int from, int to, int flag) {
+        return from | to << 6 | flag << 12;
+    }
+
+    public static int from(int move) {
+        return move & 0x3F;
+    }
+
+    public static int to(int move) {
+        return (move >>> 6) & 0x3F;
+    }
+
+    public static int flag(int move) {
+        return (move >>> 12) & 0xF;
+    }
+
+    public static boolean isCapture(int move) {
+        return (flag(move) & CAPTURE) != 0;
+    }
+
+    public static boolean isPromotion(int move) {
+        return (flag(move) & PROMOTION) != 0;
+    }
+
+    public static boolean isCastle(int move) {
+        int flag = flag(move);
+        return flag == KING_CASTLE || flag == QUEEN_CASTLE;
+    }
+
+    public static int promotionType(int move) {
+        return BitBoard.KNIGHT + (flag(move) & 3);
+    }
+
+    public static String toString(int move) {
+        StringBuilder stringBuilder = new StringBuilder()
+                .append((char) ('a' + Bitboards.file(from(move))))
+                .append(Bitboards.rank(from(move)) + 1)
+                .append((char) ('a' + Bitboards.file(to(move))))
+                .append(Bitboards.rank(to(move)) + 1);
+        if (isPromotion(move)) {
+            stringBuilder.append(PROMOTION_NAMES.charAt(flag(move) & 3));
+        }
+        return stringBuilder.toString();
+    }
+}
@@ -0,0 +1,258 @@
+package com.internship.model.bitboard;
+
+import static com.internship.model.bitboard.BitBoard.*;
+
+public final class MoveGenerator {
+    public static final int MAX_MOVES = 256;
+    public static final int TACTICAL_MOVES = 1;
+    public static final int QUIET_MOVES = 2;
+    public static final int ALL_MOVES = TACTICAL_MOVES | QUIET_MOVES;
+
+    private static final long WHITE_KINGSIDE_PATH = 0x60L;
+    private static final long WHITE_QUEENSIDE_PATH = 0x0EL;
+    private static final long BLACK_KINGSIDE_PATH = WHITE_KINGSIDE_PATH << 56;
+    private static final long BLACK_QUEENSIDE_PATH = WHITE_QUEENSIDE_PATH << 56;
+    private static final long RANK_3 = Bitboards.RANK_1 << 16;
+    private static final long RANK_6 = Bitboards.RANK_8 >>> 16;
+    private static final long PROMOTION_RANKS = Bitboards.RANK_1 | Bitboards.RANK_8;
+
+    private MoveGenerator() {
+    }
+
+    public static int generate(BitBoard board, int[] moves) {
+        return generate(board, moves, ALL_MOVES, -1L);
+    }
+
+    private static int generate(BitBoard board, int[] moves, int kinds, long sources) {
+        int color = board.getSideToMove();
+        long occupancy = board.getOccupancy();
+        long enemies = board.getOccupancy(color ^ 1) & ~board.getPieces(color ^ 1, KING);
+        long targets = ~board.getOccupancy(color) & ~board.getPieces(color ^ 1, KING);
+        if ((kinds & TACTICAL_MOVES) == 0) {
+            targets &= ~enemies;
+        }
+        if ((kinds & QUIET_MOVES) == 0) {
+            targets &= enemies;
+        }
+        long pawns = board.getPieces(color, PAWN) & sources;
+        int count = generatePawnMoves(pawns, color, occupancy, enemies, -1L, kinds, moves, 0);
+        int enPassantSquare = board.getEnPassantSquare();
+        if (enPassantSquare != NO_SQUARE && (kinds & TACTICAL_MOVES) != 0) {
+            for (long attackers = Attacks.pawn(color ^ 1, enPassantSquare) & pawns;
+                 attackers != 0;
+                 attackers &= attackers - 1) {
+                moves[count++] = Move.of(Bitboards.lowestSquare(attackers), enPassantSquare, Move.EN_PASSANT);
+            }
+        }
+        for (int type = KNIGHT; type <= KING; type++) {
+            for (long figures = board.getPieces(color, type) & sources; figures != 0; figures &= figures - 1) {
+                int from = Bitboards.lowestSquare(figures);
+                count = addMoves(from, Attacks.of(type, color, from, occupancy) & targets, enemies, moves, count);
+            }
+        }
+        boolean castling = (kinds & QUIET_MOVES) != 0 && (sources & board.getPieces(color, KING)) != 0;
+        return castling ? generateCastlingMoves(board, color, moves, count) : count;
+    }
+
+    public static int generateLegal(BitBoard board, int[] moves) {
+        return generateLegal(board, moves, ALL_MOVES, -1L);
+    }
+
+    public static int generateLegal(BitBoard board, int[] moves, int kinds) {
+        return generateLegal(board, moves, kinds, -1L);
+    }
+
+    public static int generateLegal(BitBoard board, int[] moves, int kinds, long sources) {
+        int color = board.getSideToMove();
+        int opponent = color ^ 1;
+        long kingBit = board.getPieces(color, KING);
+        if (kingBit == 0) {
+            return generate(board, moves, kinds, sources);
+        }
+        int king = Bitboards.lowestSquare(kingBit);
+        long occupancy = board.getOccupancy();
+        long enemies = board.getOccupancy(opponent) & ~board.getPieces(opponent, KING);
+        long targets = ~board.getOccupancy(color) & ~board.getPieces(opponent, KING);
+        if ((kinds & TACTICAL_MOVES) == 0) {
+            targets &= ~enemies;
+        }
+        if ((kinds & QUIET_MOVES) == 0) {
+            targets &= enemies;
+        }
+        int count = 0;
+        long kingDestinations = (sources & kingBit) == 0 ? 0L : Attacks.king(king) & targets;
+        for (long destinations = kingDestinations; destinations != 0; destinations &= destinations - 1) {
+            int to = Bitboards.lowestSquare(destinations);
+            if (board.attackersOf(to, opponent, occupancy ^ kingBit) == 0) {
+                moves[count++] = Move.of(king, to, Bitboards.contains(enemies, to) ? Move.CAPTURE : Move.QUIET);
+            }
+        }
+        long checkers = board.attackersOf(king, opponent, occupancy);
+        if ((checkers & (checkers - 1)) != 0) {
+            return count;
+        }
+        long checkMask = checkers == 0 ? -1L : checkers | Attacks.between(king, Bitboards.lowestSquare(checkers));
+        long pinned = pinnedFigures(board, color, king, occupancy);
+        long pawns = board.getPieces(color, PAWN) & sources;
+        count = generatePawnMoves(pawns & ~pinned, color, occupancy, enemies, checkMask, kinds, moves, count);
+        for (long pinnedPawns = pawns & pinned; pinnedPawns != 0; pinnedPawns &= pinnedPawns - 1) {
+            int from = Bitboards.lowestSquare(pinnedPawns);
+            count = generatePawnMoves(
+                    Bitboards.bit(from),
+                    color,
+                    occupancy,
+                    enemies,
+                    checkMask & Attacks.line(king, from),
+                    kinds,
+                    moves,
+                    count
+            );
+        }
+        if ((kinds & TACTICAL_MOVES) != 0) {
+            count = generateEnPassant(board, color, king, pawns, occupancy, checkMask, moves, count);
+        }
+        for (int type = KNIGHT; type < KING; type++) {
+            for (long figures = board.getPieces(color, type) & sources; figures != 0; figures &= figures - 1) {
+                int from = Bitboards.lowestSquare(figures);
+                long mask = Bitboards.contains(pinned, from) ? checkMask & Attacks.line(king, from) : checkMask;
+                count = addMoves(from, Attacks.of(type, color, from, occupancy) & targets & mask, enemies, moves, count);
+            }
+        }
+        boolean castling = checkers == 0 && (kinds & QUIET_MOVES) != 0 && (sources & kingBit) != 0;
+        return castling ? generateCastlingMoves(board, color, moves, count) : count;
+    }
+
+    public static boolean hasLegalMove(BitBoard board, int[] moves) {
+        return generateLegal(board, moves) > 0;
+    }
+
+    private static long pinnedFigures(BitBoard board, int color, int king, long occupancy) {
+        int opponent = color ^ 1;
+        long snipers = (Attacks.rook(king, 0L) & (board.getPieces(opponent, ROOK) | board.getPieces(opponent, QUEEN)))
+                | (Attacks.bishop(king, 0L) & (board.getPieces(opponent, BISHOP) | board.getPieces(opponent, QUEEN)));
+        long pinned = 0L;
+        for (; snipers != 0; snipers &= snipers - 1) {
+            long blockers = Attacks.between(king, Bitboards.lowestSquare(snipers)) & occupancy;
+            if (blockers != 0 && (blockers & (blockers - 1)) == 0) {
+                pinned |= blockers;
+            }
+        }
+        return pinned & board.getOccupancy(color);
+    }
+
+    private static int generatePawnMoves(
+            long pawns,
+            int color,
+            long occupancy,
+            long enemies,
+            long mask,
+            int kinds,
+            int[] moves,
+            int count
+    ) {
+        long empty = ~occupancy;
+        int forward = color == WHITE ? 8 : -8;
+        long singlePushes = shiftForward(pawns, color) & empty;
+        if ((kinds & QUIET_MOVES) != 0) {
+            long doublePushes = shiftForward(singlePushes & (color == WHITE ? RANK_3 : RANK_6), color) & empty & mask;
+            count = addPawnMoves(singlePushes & mask & ~PROMOTION_RANKS, forward, Move.QUIET, moves, count);
+            for (; doublePushes != 0; doublePushes &= doublePushes - 1) {
+                int to = Bitboards.lowestSquare(doublePushes);
+                moves[count++] = Move.of(to - 2 * forward, to, Move.DOUBLE_PAWN_PUSH);
+            }
+        }
+        if ((kinds & TACTICAL_MOVES) == 0) {
+            return count;
+        }
+        long leftCaptures = (shiftForward(pawns & ~Bitboards.FILE_A, color) >>> 1) & enemies & mask;
+        long rightCaptures = (shiftForward(pawns & ~Bitboards.FILE_H, color) << 1) & enemies & mask;
+        count = addPawnMoves(singlePushes & mask & PROMOTION_RANKS, forward, Move.QUIET, moves, count);
+        count = addPawnMoves(leftCaptures, forward - 1, Move.CAPTURE, moves, count);
+        return addPawnMoves(rightCaptures, forward + 1, Move.CAPTURE, moves, count);
+    }
+
+    private static int generateEnPassant(
+            BitBoard board,
+            int color,
+            int king,
+            long pawns,
+            long occupancy,
+            long checkMask,
+            int[] moves,
+            int count
+    ) {
+        int enPassantSquare = board.getEnPassantSquare();
+        if (enPassantSquare == NO_SQUARE) {
+            return count;
+        }
+        int capturedSquare = enPassantSquare + (color == WHITE ? -8 : 8);
+        if ((checkMask & (Bitboards.bit(enPassantSquare) | Bitboards.bit(capturedSquare))) == 0) {
+            return count;
+        }
+        int opponent = color ^ 1;
+        long straightSliders = board.getPieces(opponent, ROOK) | board.getPieces(opponent, QUEEN);
+        long diagonalSliders = board.getPieces(opponent, BISHOP) | board.getPieces(opponent, QUEEN);
+        for (long attackers = Attacks.pawn(opponent, enPassantSquare) & pawns;
+             attackers != 0;
+             attackers &= attackers - 1) {
+            int from = Bitboards.lowestSquare(attackers);
+            long after = (occupancy ^ Bitboards.bit(from) ^ Bitboards.bit(capturedSquare)) | Bitboards.bit(enPassantSquare);
+            if ((Attacks.rook(king, after) & straightSliders) == 0 && (Attacks.bishop(king, after) & diagonalSliders) == 0) {
+                moves[count++] = Move.of(from, enPassantSquare, Move.EN_PASSANT);
+            }
+        }
+        return count;
+    }
+
+    private static long shiftForward(long bitboard, int color) {
+        return color == WHITE ? bitboard << 8 : bitboard >>> 8;
+    }
+
+    private static int addPawnMoves(long destinations, int offset, int flag, int[] moves, int count) {
+        for (; destinations != 0; destinations &= destinations - 1) {
+            int to = Bitboards.lowestSquare(destinations);
+            int from = to - offset;
+            if (Bitboards.rank(to) == 0 || Bitboards.rank(to) == 7) {
+                for (int promotion = Move.QUEEN_PROMOTION; promotion >= Move.KNIGHT_PROMOTION; promotion--) {
+                    moves[count++] = Move.of(from, to, promotion | flag);
+                }
+            } else {
+                moves[count++] = Move.of(from, to, flag);
+            }
+        }
+        return count;
+    }
+
+    private static int addMoves(int from, long destinations, long enemies, int[] moves, int count) {
+        for (; destinations != 0; destinations &= destinations - 1) {
+            int to = Bitboards.lowestSquare(destinations);
+            moves[count++] = Move.of(from, to, Bitboards.contains(enemies, to) ? Move.CAPTURE : Move.QUIET);
+        }
+        return count;
+    }
+
+    private static int generateCastlingMoves(BitBoard board, int color, int[] moves, int count) {
+        int rights = board.getCastlingRights();
+        if (color == WHITE) {
+            count = addCastlingMove(board, rights & WHITE_KINGSIDE, WHITE_KINGSIDE_PATH, 4, 6, moves, count);
+            return addCastlingMove(board, rights & WHITE_QUEENSIDE, WHITE_QUEENSIDE_PATH, 4, 2, moves, count);
+        }
+        count = addCastlingMove(board, rights & BLACK_KINGSIDE, BLACK_KINGSIDE_PATH, 60, 62, moves, count);
+        return addCastlingMove(board, rights & BLACK_QUEENSIDE, BLACK_QUEENSIDE_PATH, 60, 58, moves, count);
+    }
+
+    private static int addCastlingMove(BitBoard board, int right, long path, int from, int to, int[] moves, int count) {
+        if (right == 0 || (board.getOccupancy() & path) != 0) {
+            return count;
+        }
+        int opponent = board.getSideToMove() ^ 1;
+        int step = to > from ? 1 : -1;
+        for (int square = from; square != to + step; square += step) {
+            if (board.isAttacked(square, opponent)) {
+                return count;
+            }
+        }
+        moves[count++] = Move.of(from, to, to > from ? Move.KING_CASTLE : Move.QUEEN_CASTLE);
+        return count;
+    }
+}
@@ -0,0 +1,68 @@
+package com.internship.model.bitboard;
+
+import java.util.SplittableRandom;
+
+public final class Zobrist {
+    private static final long SEED = 0x5EED_C0FF_EE15_600DL;
+    private static final long[][] PIECES = new long[2 * BitBoard.TYPES][Bitboards.SQUARES];
+    private static final long[] CASTLING = new long[16];
+    private static final long[] EN_PASSANT = new long[8];
+    private static final long SIDE;
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (long[] keys : PIECES) {
+            for (int square = 0; square < Bitboards.SQUARES; square++) {
+                keys[square] = random.nextLong();
+            }
+        }
+        long[] rights = new long[4];
+        for (int right = 0; right < rights.length; right++) {
+            rights[right] = random.nextLong();
+        }
+        for (int castlingRights = 0; castlingRights < CASTLING.length; castlingRights++) {
+            for (int right = 0; right < rights.length; right++) {
+                if ((castlingRights & (1 << right)) != 0) {
+                    CASTLING[castlingRights] ^= rights[right];
+                }
+            }
+        }
+        for (int file = 0; file < EN_PASSANT.length; file++) {
+            EN_PASSANT[file] = random.nextLong();
+        }
+        SIDE = random.nextLong();
+    }
+
+    private Zobrist() {
+    }
+
+    public static long piece(int piece, int square) {
+        return PIECES[piece][square];
+    }
+
+    public static long castling(int castlingRights) {
+        return CASTLING[castlingRights];
+    }
+
+    public static long enPassant(int square) {
+        return square == BitBoard.NO_SQUARE ? 0L : EN_PASSANT[Bitboards.file(square)];
+    }
+
+    public static long side() {
+        return SIDE;
+    }
+
+    public static long compute(BitBoard board) {
+        long key = castling(board.getCastlingRights()) ^ enPassant(board.getEnPassantSquare());
+        if (board.getSideToMove() == BitBoard.BLACK) {
+            key ^= SIDE;
+        }
+        for (int square = 0; square < Bitboards.SQUARES; square++) {
+            int piece = board.getPiece(square);
+            if (piece != BitBoard.NO_PIECE) {
+                key ^= PIECES[piece][square];
+            }
+        }
+        return key;
+    }
+}
@@ -1,20 +1,19 @@
 package com.internship.model.figure;
 
-import com.internship.model.CellStatus;
+import com.internship.model.FigureType;
 import com.internship.model.Team;
+import com.internship.model.bitboard.Bitboards;
 import com.internship.model.game.Board;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.function.Function;
-
-import static com.internship.model.CellStatus.getCellStatus;
 
 public abstract class Figure {
     protected Position position;
     protected final Team team;
     protected String name;
+    protected FigureType type;
     private Position lastPosition;
 
     public Figure(Position position, Team team) {
@@ -44,6 +43,10 @@ public abstract class Figure {
         return name;
     }
 
+    public FigureType getType() {
+        return type;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -67,105 +70,16 @@ public abstract class Figure {
 
     public abstract List<Position> findPossibleMoves(Board board);
 
-    protected List<Position> findPossibleMovesOnVerticalAndHorizontal(Board board, int maxWidth, int maxHeight) {
-        List<Position> possibleMoves = new ArrayList<>(findPossibleMovesOnVerticalOrHorizontal(
-                position.x(),
-                maxWidth,
-                (width) -> board.getCells()[width][position.y()],
-                (width) -> new Position(width, position.y())
-        ));
-        possibleMoves.addAll(findPossibleMovesOnVerticalOrHorizontal(
-                position.y(),
-                maxHeight,
-                (height) -> board.getCells()[position.x()][height],
-                (height) -> new Position(position.x(), height)
-        ));
-        return possibleMoves;
-    }
-
-    private List<Position> findPossibleMovesOnVerticalOrHorizontal(
-            int currentCoordinate,
-            int maxCoordinate,
-            Function<Integer, Figure> figureGetter,
-            Function<Integer, Position> positionGetter
-    ) {
-        List<Position> possibleMoves = new ArrayList<>();
-        for (int coordinate = currentCoordinate + 1; coordinate < maxCoordinate; coordinate++) {
-            if (shouldBreakLoop(
-                    possibleMoves,
-                    getCellStatus(figureGetter.apply(coordinate), team),
-                    positionGetter.apply(coordinate)
-            )) break;
-        }
-        for (int coordinate = currentCoordinate - 1; coordinate >= 0; coordinate--) {
-            if (shouldBreakLoop(
-                    possibleMoves,
-                    getCellStatus(figureGetter.apply(coordinate), team),
-                    positionGetter.apply(coordinate)
-            )) break;
-        }
-        return possibleMoves;
-    }
-
-    protected List<Position> findPossibleMovesOnAllDiagonals(Board board, int maxWidth, int maxHeight) {
-        List<Position> possibleMoves = new ArrayList<>(findPossibleMovesOnDiagonal(
-                board,
-                maxWidth,
-                maxHeight,
-                (index) -> position.y() - index
-        ));
-        possibleMoves.addAll(findPossibleMovesOnDiagonal(
-                board,
-                maxWidth,
-                maxHeight,
-                (index) -> position.y() + index
-        ));
-        return possibleMoves;
+    protected int getSquare() {
+        return position.square();
     }
 
-    private List<Position> findPossibleMovesOnDiagonal(
-            Board board,
-            int maxWidth,
-            int maxHeight,
-            Function<Integer, Integer> heightGetter
-    ) {
-        List<Position> possibleMoves = new ArrayList<>();
-        for (int width = position.x() + 1; width < maxWidth; width++) {
-            int height = heightGetter.apply(width - position.x());
-            if (height < 0 || height >= maxHeight
-                    || shouldBreakLoop(possibleMoves,
-                    getCellStatus(board.getCells()[width][height], team),
-                    new Position(width, height))
-            ) {
-                break;
-            }
-        }
-        for (int width = position.x() - 1; width >= 0; width--) {
-            int height = heightGetter.apply(position.x() - width);
-            if (height < 0 || height >= maxHeight
-                    || shouldBreakLoop(possibleMoves,
-                    getCellStatus(board.getCells()[width][height], team),
-                    new Position(width, height))
-            ) {
-                break;
-            }
+    protected List<Position> collectPossibleMoves(Board board, long attacks) {
+        long targets = attacks & ~board.getBitBoard().getOccupancy(team.ordinal());
+        List<Position> possibleMoves = new ArrayList<>(Bitboards.count(targets));
+        for (; targets != 0; targets &= targets - 1) {
+            possibleMoves.add(Position.of(Bitboards.lowestSquare(targets)));
         }
         return possibleMoves;
     }
-
-    protected boolean shouldBreakLoop(List<Position> possibleMoves, CellStatus cellStatus, Position position) {
-        switch (cellStatus) {
-            case EMPTY -> {
-                possibleMoves.add(position);
-                return false;
-            }
-            case OTHER_TEAM, OPPONENT_KING -> {
-                return possibleMoves.add(position);
-            }
-            case SAME_TEAM -> {
-                return true;
-            }
-        }
-        return false;
-    }
 }
@@ -1,4 +1,21 @@
 package com.internship.model.figure;
 
+import com.internship.model.bitboard.Bitboards;
+
 public record Position(int x, int y) {
+    private static final Position[] POSITIONS = new Position[Bitboards.SQUARES];
+
+    static {
+        for (int square = 0; square < Bitboards.SQUARES; square++) {
+            POSITIONS[square] = new Position(Bitboards.file(square), Bitboards.rank(square));
+        }
+    }
+
+    public static Position of(int square) {
+        return POSITIONS[square];
+    }
+
+    public int square() {
+        return Bitboards.square(x, y);
+    }
 }
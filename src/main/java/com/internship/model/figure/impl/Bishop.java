@@ -1,8 +1,10 @@
 package com.internship.model.figure.impl;
 
+import com.internship.model.bitboard.Attacks;
 import com.internship.model.game.Board;
 import com.internship.model.figure.Position;
 import com.internship.model.Team;
+import com.internship.model.FigureType;
 import com.internship.model.figure.Figure;
 
 import java.util.List;
@@ -11,10 +13,11 @@ public class Bishop extends Figure {
     public Bishop(Position position, Team team) {
         super(position, team);
         name = "B";
+        type = FigureType.BISHOP;
     }
 
     @Override
     public List<Position> findPossibleMoves(Board board) {
-        return findPossibleMovesOnAllDiagonals(board, Board.WIDTH, Board.HEIGHT);
+        return collectPossibleMoves(board, Attacks.bishop(getSquare(), board.getBitBoard().getOccupancy()));
     }
 }
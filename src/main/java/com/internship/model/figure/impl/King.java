@@ -1,6 +1,8 @@
 package com.internship.model.figure.impl;
 
+import com.internship.model.FigureType;
 import com.internship.model.Team;
+import com.internship.model.bitboard.Attacks;
 import com.internship.model.figure.Figure;
 import com.internship.model.figure.FigureWithFirstMove;
 import com.internship.model.figure.Position;
@@ -8,8 +10,6 @@ import com.internship.model.game.Board;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 import static com.internship.model.CellStatus.getCellStatus;
 
@@ -17,23 +17,12 @@ public class King extends FigureWithFirstMove {
     public King(Position position, Team team) {
         super(position, team);
         name = "K";
+        type = FigureType.KING;
     }
 
     @Override
     public List<Position> findPossibleMoves(Board board) {
-        List<Position> possibleMoves = new ArrayList<>(
-                findPossibleMovesOnAllDiagonals(
-                        board,
-                        position.x() < Board.WIDTH - 1 ? position.x() + 2 : position.x() + 1,
-                        position.y() < Board.HEIGHT - 1 ? position.y() + 2 : position.y() + 1
-                )
-        );
-        possibleMoves.addAll(findPossibleMovesOnVerticalAndHorizontal(
-                board,
-                position.x() < Board.WIDTH - 1 ? position.x() + 2 : position.x() + 1,
-                position.y() < Board.HEIGHT - 1 ? position.y() + 2 : position.y() + 1
-        ));
-        possibleMoves.removeIf(movement -> movement.x() < position.x() - 1 || movement.y() < position.y() - 1);
+        List<Position> possibleMoves = collectPossibleMoves(board, Attacks.king(getSquare()));
         if (firstMove) {
             possibleMoves.addAll(findCastlingMoves(board));
         }
@@ -72,22 +61,4 @@ public class King extends FigureWithFirstMove {
         }
         return true;
     }
-
-    public boolean opponentCoversAllMoves(
-            Map<Figure, List<Position>> opponentPossibleMovesByFigures,
-            List<Position> possibleMoves
-    ) {
-        return opponentPossibleMovesByFigures.entrySet()
-                .stream()
-                .flatMap(figureListEntry -> figureListEntry.getValue().stream())
-                .collect(Collectors.toSet())
-                .containsAll(possibleMoves);
-    }
-
-    public boolean isCheckmated(Map<Figure, List<Position>> opponentPossibleMovesByFigures) {
-        return opponentPossibleMovesByFigures.entrySet()
-                .stream()
-                .flatMap(figureListEntry -> figureListEntry.getValue().stream())
-                .anyMatch(element -> element.equals(position));
-    }
 }
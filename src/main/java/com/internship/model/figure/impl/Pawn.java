@@ -2,6 +2,7 @@ package com.internship.model.figure.impl;
 
 import com.internship.model.Team;
 import com.internship.model.CellStatus;
+import com.internship.model.FigureType;
 import com.internship.model.figure.Figure;
 import com.internship.model.figure.FigureWithFirstMove;
 import com.internship.model.figure.Position;
@@ -9,17 +10,15 @@ import com.internship.model.game.Board;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BinaryOperator;
 
-import static com.internship.model.CellStatus.getCellStatus;
-
 public class Pawn extends FigureWithFirstMove {
     private boolean readyForCaptureByOpponentPawn = false;
 
     public Pawn(Position position, Team team) {
         super(position, team);
         name = "";
+        type = FigureType.PAWN;
     }
 
     public boolean isReadyForCaptureByOpponentPawn() {
@@ -36,27 +35,27 @@ public class Pawn extends FigureWithFirstMove {
         BinaryOperator<Integer> moveByHeight = team.equals(Team.WHITE) ? Integer::sum : (a, b) -> a - b;
         if ((team.equals(Team.WHITE) && position.y() < Board.HEIGHT - 1)
                 || (team.equals(Team.BLACK) && position.y() > 0)) {
-            if (getCellStatus(board.getCells()[position.x()][moveByHeight.apply(position.y(), 1)], team)
+            if (board.getCellStatus(position.x(), moveByHeight.apply(position.y(), 1), team)
                     .equals(CellStatus.EMPTY)) {
                 possibleMoves.add(new Position(position.x(), moveByHeight.apply(position.y(), 1)));
                 if (firstMove
-                        && getCellStatus(board.getCells()[position.x()][moveByHeight.apply(position.y(), 2)], team)
+                        && board.getCellStatus(position.x(), moveByHeight.apply(position.y(), 2), team)
                         .equals(CellStatus.EMPTY)) {
                     possibleMoves.add(new Position(position.x(), moveByHeight.apply(position.y(), 2)));
                 }
             }
             if (position.x() > 0
-                    && (getCellStatus(board.getCells()[position.x() - 1][moveByHeight.apply(position.y(), 1)], team)
+                    && (board.getCellStatus(position.x() - 1, moveByHeight.apply(position.y(), 1), team)
                     .equals(CellStatus.OTHER_TEAM)
-                    || getCellStatus(board.getCells()[position.x() - 1][moveByHeight.apply(position.y(), 1)], team)
+                    || board.getCellStatus(position.x() - 1, moveByHeight.apply(position.y(), 1), team)
                     .equals(CellStatus.OPPONENT_KING)
                     || canCapturePawnByRightOrLeftSide(board, position.x() - 1, position.y()))) {
                 possibleMoves.add(new Position(position.x() - 1, moveByHeight.apply(position.y(), 1)));
             }
             if (position.x() < Board.WIDTH - 1
-                    && (getCellStatus(board.getCells()[position.x() + 1][moveByHeight.apply(position.y(), 1)], team)
+                    && (board.getCellStatus(position.x() + 1, moveByHeight.apply(position.y(), 1), team)
                     .equals(CellStatus.OTHER_TEAM)
-                    || getCellStatus(board.getCells()[position.x() + 1][moveByHeight.apply(position.y(), 1)], team)
+                    || board.getCellStatus(position.x() + 1, moveByHeight.apply(position.y(), 1), team)
                     .equals(CellStatus.OPPONENT_KING)
                     || canCapturePawnByRightOrLeftSide(board, position.x() + 1, position.y()))) {
                 possibleMoves.add(new Position(position.x() + 1, moveByHeight.apply(position.y(), 1)));
@@ -67,37 +66,26 @@ public class Pawn extends FigureWithFirstMove {
 
     private boolean canCapturePawnByRightOrLeftSide(Board board, int x, int y) {
         int opponentPawnStartHeight = team.equals(Team.WHITE) ? Board.HEIGHT - 2 : 1;
-        return getCellStatus(board.getCells()[x][y], team).equals(CellStatus.OTHER_TEAM)
+        return board.getCellStatus(x, y, team).equals(CellStatus.OTHER_TEAM)
                 && board.getCells()[x][y].getClass().equals(Pawn.class)
                 && ((Pawn) board.getCells()[x][y]).isReadyForCaptureByOpponentPawn()
                 && board.getCells()[x][y].getLastPosition().y() == opponentPawnStartHeight
                 && board.getCells()[x][y].getLastPosition().y() - opponentPawnStartHeight == 2;
     }
 
-    public Figure promote() {
-        switch (ThreadLocalRandom.current().nextInt(4)) {
-            case 0 -> {
-                Knight knight = new Knight(getLastPosition(), team);
-                knight.setPosition(position);
-                return knight;
-            }
-            case 1 -> {
-                Bishop bishop = new Bishop(getLastPosition(), team);
-                bishop.setPosition(position);
-                return bishop;
-            }
-            case 2 -> {
-                Rook rook = new Rook(getLastPosition(), team);
-                rook.setPosition(position);
-                return rook;
-            }
-            case 3 -> {
-                Queen queen = new Queen(getLastPosition(), team);
-                queen.setPosition(position);
-                return queen;
-            }
+    public Figure promote(FigureType type) {
+        Figure figure = switch (type) {
+            case KNIGHT -> new Knight(getLastPosition(), team);
+            case BISHOP -> new Bishop(getLastPosition(), team);
+            case ROOK -> new Rook(getLastPosition(), team);
+            case QUEEN -> new Queen(getLastPosition(), team);
+            default -> throw new IllegalArgumentException("Pawn cannot be promoted to " + type);
+        };
+        figure.setPosition(position);
+        if (figure instanceof Rook rook) {
+            rook.setFirstMove(false);
         }
-        return null;
+        return figure;
     }
 
     public boolean canPromote() {
@@ -1,6 +1,8 @@
 package com.internship.model.figure.impl;
 
+import com.internship.model.FigureType;
 import com.internship.model.Team;
+import com.internship.model.bitboard.Attacks;
 import com.internship.model.figure.Figure;
 import com.internship.model.figure.Position;
 import com.internship.model.game.Board;
@@ -11,20 +13,11 @@ public class Queen extends Figure {
     public Queen(Position position, Team team) {
         super(position, team);
         name = "Q";
+        type = FigureType.QUEEN;
     }
 
     @Override
     public List<Position> findPossibleMoves(Board board) {
-        List<Position> possibleMoves = findPossibleMovesOnAllDiagonals(
-                board,
-                Board.WIDTH,
-                Board.HEIGHT
-        );
-        possibleMoves.addAll(findPossibleMovesOnVerticalAndHorizontal(
-                board,
-                Board.WIDTH,
-                Board.HEIGHT
-        ));
-        return possibleMoves;
+        return collectPossibleMoves(board, Attacks.queen(getSquare(), board.getBitBoard().getOccupancy()));
     }
 }
@@ -1,6 +1,8 @@
 package com.internship.model.figure.impl;
 
+import com.internship.model.FigureType;
 import com.internship.model.Team;
+import com.internship.model.bitboard.Attacks;
 import com.internship.model.figure.FigureWithFirstMove;
 import com.internship.model.figure.Position;
 import com.internship.model.game.Board;
@@ -11,14 +13,11 @@ public class Rook extends FigureWithFirstMove {
     public Rook(Position position, Team team) {
         super(position, team);
         name = "R";
+        type = FigureType.ROOK;
     }
 
     @Override
     public List<Position> findPossibleMoves(Board board) {
-        return findPossibleMovesOnVerticalAndHorizontal(
-                board,
-                Board.WIDTH,
-                Board.HEIGHT
-        );
+        return collectPossibleMoves(board, Attacks.rook(getSquare(), board.getBitBoard().getOccupancy()));
     }
 }
@@ -0,0 +1,9 @@
+package com.internship.model.game;
+
+public record Adjudication(int maxPlies, int resignScore, int resignPlies, int drawScore, int drawPlies) {
+    public static final Adjudication NONE = new Adjudication(Integer.MAX_VALUE, 0, 0, 0, 0);
+
+    public static Adjudication maxPlies(int maxPlies) {
+        return new Adjudication(maxPlies, 0, 0, 0, 0);
+    }
+}
@@ -1,6 +1,9 @@
 package com.internship.model.game;
 
+import com.internship.model.CellStatus;
 import com.internship.model.Team;
+import com.internship.model.bitboard.BitBoard;
+import com.internship.model.bitboard.Bitboards;
 import com.internship.model.figure.Figure;
 import com.internship.model.figure.Position;
 import com.internship.model.figure.impl.*;
@@ -9,26 +12,131 @@ public class Board {
     public static final int WIDTH = 8;
     public static final int HEIGHT = 8;
     private final Figure[][] cells = new Figure[WIDTH][HEIGHT];
+    private final BitBoard bitBoard = new BitBoard();
 
     public Figure[][] getCells() {
         return cells;
     }
 
+    public BitBoard getBitBoard() {
+        return bitBoard;
+    }
+
+    public void setFigure(int width, int height, Figure figure) {
+        int square = Bitboards.square(width, height);
+        bitBoard.removePiece(square);
+        cells[width][height] = figure;
+        if (figure != null) {
+            bitBoard.putPiece(square, BitBoard.piece(figure.getTeam(), figure.getType()));
+        }
+    }
+
+    public CellStatus getCellStatus(int width, int height, Team team) {
+        return bitBoard.getCellStatus(Bitboards.square(width, height), team);
+    }
+
+    public void syncState(Team sideToMove) {
+        bitBoard.setSideToMove(sideToMove.ordinal());
+        int castlingRights = 0;
+        if (canCastle(0, WIDTH - 1)) castlingRights |= BitBoard.WHITE_KINGSIDE;
+        if (canCastle(0, 0)) castlingRights |= BitBoard.WHITE_QUEENSIDE;
+        if (canCastle(HEIGHT - 1, WIDTH - 1)) castlingRights |= BitBoard.BLACK_KINGSIDE;
+        if (canCastle(HEIGHT - 1, 0)) castlingRights |= BitBoard.BLACK_QUEENSIDE;
+        bitBoard.setCastlingRights(castlingRights);
+        bitBoard.setEnPassantSquare(findEnPassantSquare(sideToMove));
+    }
+
+    public void rebuildFigures() {
+        int castlingRights = bitBoard.getCastlingRights();
+        int enPassantSquare = bitBoard.getEnPassantSquare();
+        for (int height = 0; height < HEIGHT; height++) {
+            for (int width = 0; width < WIDTH; width++) {
+                int piece = bitBoard.getPiece(Bitboards.square(width, height));
+                cells[width][height] = piece == BitBoard.NO_PIECE
+                        ? null
+                        : createFigure(piece, width, height, castlingRights, enPassantSquare);
+            }
+        }
+    }
+
+    private Figure createFigure(int piece, int width, int height, int castlingRights, int enPassantSquare) {
+        Team team = BitBoard.colorOf(piece) == BitBoard.WHITE ? Team.WHITE : Team.BLACK;
+        Position position = Position.of(Bitboards.square(width, height));
+        int homeHeight = team.equals(Team.WHITE) ? 0 : HEIGHT - 1;
+        int rights = castlingRights >> (2 * team.ordinal());
+        return switch (BitBoard.typeOf(piece)) {
+            case BitBoard.PAWN -> createPawn(position, team, enPassantSquare);
+            case BitBoard.KNIGHT -> new Knight(position, team);
+            case BitBoard.BISHOP -> new Bishop(position, team);
+            case BitBoard.ROOK -> {
+                Rook rook = new Rook(position, team);
+                rook.setFirstMove(height == homeHeight
+                        && (width == WIDTH - 1 && (rights & BitBoard.WHITE_KINGSIDE) != 0
+                        || width == 0 && (rights & BitBoard.WHITE_QUEENSIDE) != 0));
+                yield rook;
+            }
+            case BitBoard.QUEEN -> new Queen(position, team);
+            default -> {
+                King king = new King(position, team);
+                king.setFirstMove(height == homeHeight && width == 4
+                        && (rights & (BitBoard.WHITE_KINGSIDE | BitBoard.WHITE_QUEENSIDE)) != 0);
+                yield king;
+            }
+        };
+    }
+
+    private Pawn createPawn(Position position, Team team, int enPassantSquare) {
+        int forward = team.equals(Team.WHITE) ? 1 : -1;
+        int startHeight = team.equals(Team.WHITE) ? 1 : HEIGHT - 2;
+        if (enPassantSquare != BitBoard.NO_SQUARE
+                && Bitboards.square(position.x(), position.y() - forward) == enPassantSquare) {
+            Pawn pawn = new Pawn(new Position(position.x(), startHeight), team);
+            pawn.setPosition(position);
+            pawn.setFirstMove(false);
+            pawn.setReadyForCaptureByOpponentPawn(true);
+            return pawn;
+        }
+        Pawn pawn = new Pawn(position, team);
+        pawn.setFirstMove(position.y() == startHeight);
+        return pawn;
+    }
+
+    private boolean canCastle(int height, int rookWidth) {
+        return cells[4][height] instanceof King king
+                && king.isFirstMove()
+                && cells[rookWidth][height] instanceof Rook rook
+                && rook.isFirstMove()
+                && rook.getTeam().equals(king.getTeam());
+    }
+
+    private int findEnPassantSquare(Team sideToMove) {
+        Team opponent = sideToMove.equals(Team.WHITE) ? Team.BLACK : Team.WHITE;
+        int height = opponent.equals(Team.WHITE) ? 3 : HEIGHT - 4;
+        for (int width = 0; width < WIDTH; width++) {
+            if (cells[width][height] instanceof Pawn pawn
+                    && pawn.getTeam().equals(opponent)
+                    && pawn.isReadyForCaptureByOpponentPawn()) {
+                return Bitboards.square(width, opponent.equals(Team.WHITE) ? height - 1 : height + 1);
+            }
+        }
+        return BitBoard.NO_SQUARE;
+    }
+
     public void prepareBoard() {
         for (int height = 0; height < Board.HEIGHT; height++) {
             for (int width = 0; width < Board.WIDTH; width++) {
                 switch (height) {
                     case 0:
-                        cells[width][height] = placeFigure(width, height, Team.WHITE);
+                        setFigure(width, height, placeFigure(width, height, Team.WHITE));
                         break;
                     case Board.HEIGHT - 1:
-                        cells[width][height] = placeFigure(width, height, Team.BLACK);
+                        setFigure(width, height, placeFigure(width, height, Team.BLACK));
                         break;
                     case 1, Board.HEIGHT - 2:
-                        cells[width][height] = new Pawn(
+                        setFigure(width, height, new Pawn(
                                 new Position(width, height),
                                 height == 1 ? Team.WHITE : Team.BLACK
-                        );
+                        ));
                         break;
                 }
             }
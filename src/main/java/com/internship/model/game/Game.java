@@ -1,373 +1,366 @@
 package com.internship.model.game;
 
-import com.internship.model.KingStatus;
+import com.internship.engine.Evaluator;
+import com.internship.engine.MoveStrategy;
+import com.internship.engine.RandomMoveStrategy;
+import com.internship.model.FigureType;
+import com.internship.model.GameResult;
 import com.internship.model.Team;
+import com.internship.model.bitboard.BitBoard;
+import com.internship.model.bitboard.Bitboards;
+import com.internship.model.bitboard.Move;
+import com.internship.model.bitboard.MoveGenerator;
 import com.internship.model.figure.Figure;
 import com.internship.model.figure.FigureWithFirstMove;
 import com.internship.model.figure.Position;
 import com.internship.model.figure.impl.King;
-import com.internship.model.figure.impl.Knight;
 import com.internship.model.figure.impl.Pawn;
 import com.internship.model.figure.impl.Rook;
+import com.internship.notation.Fen;
+import com.internship.notation.San;
+import com.internship.output.MoveSink;
 
-import java.util.*;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.BinaryOperator;
-import java.util.stream.Collectors;
 
 import static com.internship.model.CellStatus.getCellStatus;
 
 public class Game {
-    private final Lock lock = new ReentrantLock();
-    private final Condition canMove = lock.newCondition();
-    private Player lastPlayer;
+    private volatile Player lastPlayer;
     private final Board board = new Board();
     private final Player[] players = new Player[2];
-    private boolean gameInProcess = false;
-    private int moveNumber = 1;
+    private final PositionHistory positionHistory = new PositionHistory();
+    private final int[] moveBuffer = new int[MoveGenerator.MAX_MOVES];
+    private final Thread[] threads = new Thread[2];
+    private final MoveSink moveSink;
+    private final boolean annotateMoves;
+    private GameRecorder recorder;
+    private Adjudication adjudication = Adjudication.NONE;
+    private int whiteAheadPlies;
+    private int blackAheadPlies;
+    private int balancedPlies;
+    private volatile boolean gameInProcess = false;
+    private GameResult result;
+    private volatile Throwable failure;
+    private int plyCount = 0;
+
+    public Game() {
+        this(MoveSink.NONE);
+    }
+
+    public Game(MoveSink moveSink) {
+        this(moveSink, true);
+    }
+
+    public Game(MoveSink moveSink, boolean annotateMoves) {
+        this.moveSink = moveSink;
+        this.annotateMoves = annotateMoves;
+    }
 
     public boolean isGameInProcess() {
         return gameInProcess;
     }
 
+    public void setRecorder(GameRecorder recorder) {
+        this.recorder = recorder;
+        if (recorder != null && players[0] != null) {
+            recorder.recordStart(board.getBitBoard());
+        }
+    }
+
+    public void setAdjudication(Adjudication adjudication) {
+        this.adjudication = adjudication;
+    }
+
+    public GameResult getResult() {
+        return result;
+    }
+
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    public int getPlyCount() {
+        return plyCount;
+    }
+
+    public long getPositionKey() {
+        return board.getBitBoard().getKey();
+    }
+
     public void prepareGame() {
+        prepareGame(new RandomMoveStrategy(), new RandomMoveStrategy());
+    }
+
+    public void prepareGame(MoveStrategy whiteStrategy, MoveStrategy blackStrategy) {
         board.prepareBoard();
-        players[0] = new Player(
-                this,
-                Team.WHITE,
-                new HashSet<>(
-                        Arrays.stream(board.getCells())
-                                .flatMap(Arrays::stream)
-                                .filter(figure -> figure != null && figure.getTeam().equals(Team.WHITE))
-                                .toList()
-                )
-        );
-        players[1] = new Player(
-                this,
-                Team.BLACK,
-                new HashSet<>(
-                        Arrays.stream(board.getCells())
-                                .flatMap(Arrays::stream)
-                                .filter(figure -> figure != null && figure.getTeam().equals(Team.BLACK))
-                                .toList()
-                )
+        preparePlayers(Team.WHITE, whiteStrategy, blackStrategy);
+    }
+
+    public void prepareGame(String fen, MoveStrategy whiteStrategy, MoveStrategy blackStrategy) {
+        Fen.load(fen, board);
+        preparePlayers(
+                board.getBitBoard().getSideToMove() == BitBoard.WHITE ? Team.WHITE : Team.BLACK,
+                whiteStrategy,
+                blackStrategy
         );
-        lastPlayer = players[1];
+    }
+
+    public String toFen() {
+        return Fen.toString(board);
+    }
+
+    private void preparePlayers(Team sideToMove, MoveStrategy whiteStrategy, MoveStrategy blackStrategy) {
+        board.syncState(sideToMove);
+        PieceList whiteFigures = new PieceList();
+        PieceList blackFigures = new PieceList();
+        for (Figure[] column : board.getCells()) {
+            for (Figure figure : column) {
+                if (figure != null) {
+                    (figure.getTeam().equals(Team.WHITE) ? whiteFigures : blackFigures).add(figure);
+                }
+            }
+        }
+        players[0] = new Player(this, Team.WHITE, whiteFigures, whiteStrategy);
+        players[1] = new Player(this, Team.BLACK, blackFigures, blackStrategy);
+        lastPlayer = sideToMove.equals(Team.WHITE) ? players[1] : players[0];
+        positionHistory.clear();
+        positionHistory.push(board.getBitBoard().getKey());
+        whiteAheadPlies = 0;
+        blackAheadPlies = 0;
+        balancedPlies = 0;
+        if (recorder != null) {
+            recorder.recordStart(board.getBitBoard());
+        }
     }
 
     public void startGame() {
+        startGame(Thread.ofPlatform());
+    }
+
+    public void startGame(Thread.Builder threadBuilder) {
         gameInProcess = true;
-        for (Player player : players) {
-            new Thread(player).start();
+        for (int index = 0; index < players.length; index++) {
+            threads[index] = threadBuilder.unstarted(players[index]);
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+    }
+
+    public void awaitEnd() throws InterruptedException {
+        for (Thread thread : threads) {
+            if (thread != null) {
+                thread.join();
+            }
+        }
+    }
+
+    public GameResult play() {
+        gameInProcess = true;
+        while (gameInProcess) {
+            Player player = lastPlayer.equals(players[0]) ? players[1] : players[0];
+            takeTurn(player);
+            lastPlayer = player;
         }
+        return result;
+    }
+
+    public void playMove(int move) {
+        Player player = lastPlayer.equals(players[0]) ? players[1] : players[0];
+        makeMove(player, move);
+        lastPlayer = player;
     }
 
     public void tryMakeMove(Player player) {
-        lock.lock();
+        while (player.equals(lastPlayer) && gameInProcess) {
+            LockSupport.park(this);
+        }
+        if (!gameInProcess) {
+            return;
+        }
         try {
-            while (player.equals(lastPlayer)) {
-                canMove.await();
-            }
-            if (!gameInProcess) return;
-            KingStatus kingStatus = getKingStatus(player);
-            if (onlyKingsOnBoard(player) || kingStatus.equals(KingStatus.CHECKMATED)) {
-                gameInProcess = false;
-                lastPlayer = player;
-                canMove.signal();
-                lock.unlock();
-                return;
-            } else if (kingStatus.equals(KingStatus.PROTECTED) || kingStatus.equals(KingStatus.MOVED)) {
-                return;
-            }
-            Figure figure = getRandomFigureWhichCanMove(player);
-            Position position = null;
-            if (figure != null) {
-                position = getPositionToMove(player, figure);
-            }
-            if (position == null) {
-                printGameResult(true);
-                gameInProcess = false;
-                lastPlayer = player;
-                canMove.signal();
-                lock.unlock();
-                return;
-            }
-            makeMove(player, figure, position);
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
+            takeTurn(player);
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            gameInProcess = false;
+            throw e;
         } finally {
             lastPlayer = player;
-            if (gameInProcess) {
-                canMove.signal();
-                lock.unlock();
-            }
+            LockSupport.unpark(threads[player.team().equals(Team.WHITE) ? 1 : 0]);
         }
     }
 
-    private Position getPositionToMove(Player player, Figure figure) {
-        Position position;
-        if (figure.getClass().equals(King.class)) {
-            position = getKingMoves(
-                    figure.findPossibleMoves(board),
-                    getPossibleMovesByFigures(board, lastPlayer.figures())
-            );
-            if (position == null) {
-                King king = (King) figure;
-                player.figures().removeIf(element -> element.getClass().equals(King.class));
-                Figure goalFigure = getRandomFigureWhichCanMove(player);
-                if (goalFigure != null) {
-                    position = getRandomMoveOfFigure(goalFigure);
-                }
-                player.figures().add(king);
-            }
+    private void takeTurn(Player player) {
+        if (board.getBitBoard().isInsufficientMaterial() || isDrawByRule(player)) {
+            finishGame(GameResult.DRAW);
+            return;
+        }
+        GameResult adjudicated = adjudicate();
+        if (adjudicated != null && MoveGenerator.hasLegalMove(board.getBitBoard(), moveBuffer)) {
+            finishGame(adjudicated);
+            return;
+        }
+        int move = player.strategy().chooseMove(board.getBitBoard());
+        if (move != Move.NONE) {
+            makeMove(player, move);
+        } else if (board.getBitBoard().isAttacked(player.figures().getKingSquare(), lastPlayer.team().ordinal())) {
+            finishGame(lastPlayer.team().equals(Team.WHITE) ? GameResult.WHITE_WINS : GameResult.BLACK_WINS);
         } else {
-            position = getRandomMoveOfFigure(figure);
+            finishGame(GameResult.DRAW);
         }
-        return position;
     }
 
-    private boolean onlyKingsOnBoard(Player player) {
-        if (player.figures().size() == 1 && lastPlayer.figures().size() == 1) {
-            printGameResult(true);
+    private GameResult adjudicate() {
+        if (plyCount >= adjudication.maxPlies()) {
+            return GameResult.DRAW;
+        }
+        if (adjudication.resignPlies() == 0 && adjudication.drawPlies() == 0) {
+            return null;
+        }
+        BitBoard bitBoard = board.getBitBoard();
+        int score = Evaluator.evaluate(bitBoard);
+        if (bitBoard.getSideToMove() == BitBoard.BLACK) {
+            score = -score;
+        }
+        whiteAheadPlies = score >= adjudication.resignScore() ? whiteAheadPlies + 1 : 0;
+        blackAheadPlies = -score >= adjudication.resignScore() ? blackAheadPlies + 1 : 0;
+        balancedPlies = Math.abs(score) <= adjudication.drawScore() ? balancedPlies + 1 : 0;
+        if (adjudication.resignPlies() > 0 && whiteAheadPlies >= adjudication.resignPlies()) {
+            return GameResult.WHITE_WINS;
+        }
+        if (adjudication.resignPlies() > 0 && blackAheadPlies >= adjudication.resignPlies()) {
+            return GameResult.BLACK_WINS;
+        }
+        if (adjudication.drawPlies() > 0 && balancedPlies >= adjudication.drawPlies()) {
+            return GameResult.DRAW;
+        }
+        return null;
+    }
+
+    private boolean isDrawByRule(Player player) {
+        BitBoard bitBoard = board.getBitBoard();
+        int halfmoveClock = bitBoard.getHalfmoveClock();
+        if (positionHistory.isThreefoldRepetition(halfmoveClock)) {
             return true;
         }
-        return false;
+        return halfmoveClock >= 100
+                && !(bitBoard.isInCheck(player.team().ordinal()) && !MoveGenerator.hasLegalMove(bitBoard, moveBuffer));
     }
 
-    private KingStatus getKingStatus(Player player) {
-        Map<Figure, List<Position>> opponentPossibleMovesByFigures = getPossibleMovesByFigures(
-                board,
-                lastPlayer.figures()
-        );
-        King king = (King) player.figures()
-                .stream()
-                .filter(figure -> figure.getClass().equals(King.class))
-                .findFirst()
-                .orElseThrow(NullPointerException::new);
-        if (!king.isCheckmated(opponentPossibleMovesByFigures)) {
-            return KingStatus.SAFE;
-        }
-        Map<Figure, List<Position>> playerPossibleMovesByFigures = getPossibleMovesByFigures(board, player.figures());
-        List<Position> possibleMoves = playerPossibleMovesByFigures.get(king);
-        possibleMoves.add(king.getPosition());
-        if (king.opponentCoversAllMoves(opponentPossibleMovesByFigures, possibleMoves)) {
-            Map<Figure, List<Position>> foundProtectors = findWhoCanProtectTheKing(
-                    king,
-                    playerPossibleMovesByFigures,
-                    opponentPossibleMovesByFigures
-            );
-            if (foundProtectors.isEmpty()) {
-                printGameResult(false);
-                return KingStatus.CHECKMATED;
-            } else {
-                protectTheKing(foundProtectors, player);
-                return KingStatus.PROTECTED;
-            }
-        } else if (king.isCheckmated(opponentPossibleMovesByFigures)) {
-            possibleMoves.removeAll(
-                    opponentPossibleMovesByFigures.entrySet()
-                            .stream()
-                            .flatMap(figureListEntry -> figureListEntry.getValue().stream())
-                            .collect(Collectors.toSet())
-            );
-            Collections.shuffle(possibleMoves);
-            makeMove(player, king, possibleMoves.getFirst());
-            return KingStatus.MOVED;
-        } else {
-            return KingStatus.SAFE;
-        }
-    }
-
-    private Map<Figure, List<Position>> findWhoCanProtectTheKing(
-            King king,
-            Map<Figure, List<Position>> playerPossibleMovesByFigures,
-            Map<Figure, List<Position>> opponentPossibleMovesByFigures
-    ) {
-        Map<Figure, List<Position>> priorityGoals = opponentPossibleMovesByFigures.entrySet()
-                .stream()
-                .filter(figureListEntry -> figureListEntry.getValue().contains(king.getPosition()))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-        List<Position> waysToProtect = findWaysToProtect(king, priorityGoals);
-        Map<Figure, List<Position>> protectors = playerPossibleMovesByFigures.entrySet()
-                .stream()
-                .filter(figureListEntry -> figureListEntry.getValue()
-                        .stream()
-                        .anyMatch(waysToProtect::contains))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-        protectors.forEach(((figure, positions) -> positions.removeIf(position -> !waysToProtect.contains(position))));
-        return protectors;
-    }
-
-    private List<Position> findWaysToProtect(King king, Map<Figure, List<Position>> priorityGoals) {
-        List<Position> waysToProtect = new ArrayList<>();
-        priorityGoals.forEach((figure, positions) -> {
-            if (figure.getPosition().x() == king.getPosition().x()) {
-                waysToProtect.addAll(
-                        positions.stream()
-                                .filter(position -> position.x() == king.getPosition().x()
-                                        && position.y() != king.getPosition().y()
-                                        && position.y() >= Integer.min(king.getPosition().y(), figure.getPosition().y())
-                                        && position.y() <= Integer.max(king.getPosition().y(), figure.getPosition().y())
-                                ).toList()
-                );
-            } else if (figure.getPosition().y() == king.getPosition().y()) {
-                waysToProtect.addAll(
-                        positions.stream()
-                                .filter(position -> position.y() == king.getPosition().y()
-                                        && position.x() != king.getPosition().x()
-                                        && position.x() >= Integer.min(king.getPosition().x(), figure.getPosition().x())
-                                        && position.x() <= Integer.max(king.getPosition().x(), figure.getPosition().x())
-                                ).toList()
-                );
-            } else if (figure.getClass().equals(Knight.class)) {
-                waysToProtect.add(figure.getPosition());
-            } else {
-                waysToProtect.addAll(getDiagonalWay(
-                        Integer.min(king.getPosition().x(), figure.getPosition().x()),
-                        Integer.min(king.getPosition().y(), figure.getPosition().y()),
-                        Integer.max(king.getPosition().x(), figure.getPosition().x())
-                ));
-                waysToProtect.removeIf(position -> position.equals(king.getPosition()));
-                waysToProtect.add(figure.getPosition());
-            }
-        });
-        return waysToProtect;
-    }
-
-    private List<Position> getDiagonalWay(int x, int y, int maxX) {
-        List<Position> diagonalWay = new ArrayList<>();
-        for (; x <= maxX; x++, y++) {
-            diagonalWay.add(new Position(x, y));
-        }
-        return diagonalWay;
-    }
-
-    private void protectTheKing(Map<Figure, List<Position>> foundProtectors, Player player) {
-        Map.Entry<Figure, List<Position>> chosenProtector = foundProtectors.entrySet()
-                .stream()
-                .collect(Collectors.collectingAndThen(Collectors.toList(), collected -> {
-                    Collections.shuffle(collected);
-                    return collected;
-                })).getFirst();
-        Position wayToProtect = chosenProtector.getValue()
-                .stream()
-                .collect(Collectors.collectingAndThen(Collectors.toList(), collected -> {
-                    Collections.shuffle(collected);
-                    return collected;
-                })).getFirst();
-        makeMove(player, chosenProtector.getKey(), wayToProtect);
-    }
-
-    private Position getKingMoves(
-            List<Position> possibleMoves,
-            Map<Figure, List<Position>> opponentPossibleMovesByFigures
-    ) {
-        possibleMoves.removeAll(
-                opponentPossibleMovesByFigures.entrySet()
-                        .stream()
-                        .flatMap(figureListEntry -> figureListEntry.getValue().stream())
-                        .collect(Collectors.toSet())
+    private void finishGame(GameResult result) {
+        this.result = result;
+        gameInProcess = false;
+        if (recorder != null) {
+            recorder.recordResult(result);
+        }
+        if (moveSink.isEnabled()) {
+            printGameResult();
+        }
+    }
+
+    private void makeMove(Player player, int move) {
+        int from = Move.from(move);
+        int to = switch (Move.flag(move)) {
+            case Move.KING_CASTLE -> from + 3;
+            case Move.QUEEN_CASTLE -> from - 4;
+            default -> Move.to(move);
+        };
+        makeMove(
+                player,
+                board.getCells()[Bitboards.file(from)][Bitboards.rank(from)],
+                Position.of(to),
+                Move.isPromotion(move) ? FigureType.values()[Move.promotionType(move)] : null,
+                move
         );
-        Collections.shuffle(possibleMoves);
-        return possibleMoves.isEmpty()
-                ? null
-                : possibleMoves.stream()
-                .filter(Objects::nonNull)
-                .toList()
-                .getFirst();
-    }
-
-    private Map<Figure, List<Position>> getPossibleMovesByFigures(Board board, Set<Figure> playerFigures) {
-        return playerFigures.stream()
-                .collect(Collectors.toMap(figure -> figure, figure -> figure.findPossibleMoves(board)));
-    }
-
-    private Figure getRandomFigureWhichCanMove(Player player) {
-        List<Figure> figures = player.figures()
-                .stream()
-                .filter(element -> !element.findPossibleMoves(board).isEmpty())
-                .collect(Collectors.collectingAndThen(Collectors.toList(), collected -> {
-                    Collections.shuffle(collected);
-                    return collected;
-                }));
-        return figures.isEmpty() ? null : figures.getFirst();
-    }
-
-    private Position getRandomMoveOfFigure(Figure figure) {
-        List<Position> possibleMoves = figure.findPossibleMoves(board)
-                .stream()
-                .filter(position -> board.getCells()[position.x()][position.y()] == null
-                        || !board.getCells()[position.x()][position.y()]
-                        .getClass()
-                        .equals(King.class)
-                ).collect(Collectors.collectingAndThen(Collectors.toList(), collected -> {
-                    Collections.shuffle(collected);
-                    return collected;
-                }));
-        return possibleMoves.isEmpty() ? null : possibleMoves.getFirst();
-    }
-
-    private void makeMove(Player player, Figure figure, Position position) {
+    }
+
+    private void makeMove(Player player, Figure figure, Position position, FigureType promotionType, int move) {
+        plyCount++;
+        boolean recordNotation = recorder != null && recorder.usesNotation();
+        String notation = moveSink.isEnabled() || recordNotation
+                ? San.encode(board.getBitBoard(), move, annotateMoves || recordNotation, moveBuffer)
+                : null;
+        if (recorder != null) {
+            recorder.recordMove(board.getBitBoard(), move, notation);
+        }
         Figure goalFigure = board.getCells()[position.x()][position.y()];
+        boolean irreversible = figure.getClass().equals(Pawn.class);
         switch (getCellStatus(goalFigure, player.team())) {
             case EMPTY -> {
-                if (figure.getClass().equals(Pawn.class) && goalFigure != null
-                        && board.getCells()[figure.getPosition().x()][goalFigure.getPosition().y()].getClass()
-                        .equals(Pawn.class)
-                        && ((Pawn) board.getCells()[figure.getPosition().x()][goalFigure.getPosition().y()])
-                        .isReadyForCaptureByOpponentPawn()) {
-                    Pawn opponentPawn = (Pawn) board.getCells()[figure.getPosition().x()][goalFigure.getPosition().y()];
-                    lastPlayer.figures().removeIf(element -> element.equals(opponentPawn));
-                    board.getCells()[figure.getPosition().x()][goalFigure.getPosition().y()] = null;
+                if (figure.getClass().equals(Pawn.class) && position.x() != figure.getPosition().x()) {
+                    lastPlayer.figures().remove(Bitboards.square(position.x(), figure.getPosition().y()));
+                    board.setFigure(position.x(), figure.getPosition().y(), null);
                 }
-                board.getCells()[figure.getPosition().x()][figure.getPosition().y()] = null;
+                board.setFigure(figure.getPosition().x(), figure.getPosition().y(), null);
             }
             case OTHER_TEAM -> {
-                board.getCells()[figure.getPosition().x()][figure.getPosition().y()] = null;
-                lastPlayer.figures().removeIf(element -> element.equals(goalFigure));
+                board.setFigure(figure.getPosition().x(), figure.getPosition().y(), null);
+                lastPlayer.figures().remove(position.square());
+                irreversible = true;
             }
             case SAME_TEAM -> {
                 if (goalFigure.getClass().equals(Rook.class) && figure.getClass().equals(King.class)) {
-                    castleKing((King) figure, (Rook) goalFigure);
+                    castleKing(player, (King) figure, (Rook) goalFigure);
+                    setPawnsUnreadyToCapture(player);
+                    board.syncState(lastPlayer.team());
+                    updateMoveCounters(player, false);
+                    printPlayerMove(player, notation);
                     return;
                 }
             }
         }
-        board.getCells()[position.x()][position.y()] = figure;
+        board.setFigure(position.x(), position.y(), figure);
+        player.figures().move(figure.getPosition().square(), position.square());
         figure.setPosition(position);
         setPawnsUnreadyToCapture(player);
         changePawnStatus(figure);
         if (figure instanceof FigureWithFirstMove && ((FigureWithFirstMove) figure).isFirstMove()) {
             ((FigureWithFirstMove) figure).setFirstMove(false);
         }
-        boolean wasPromoted = false;
         if (figure.getClass().equals(Pawn.class) && ((Pawn) figure).canPromote()) {
-            figure = promotePawn(player, (Pawn) figure);
-            wasPromoted = true;
+            promotePawn(player, (Pawn) figure, promotionType);
         }
-        printPlayerMove(player, figure, goalFigure, wasPromoted);
+        board.syncState(lastPlayer.team());
+        updateMoveCounters(player, irreversible);
+        printPlayerMove(player, notation);
     }
 
-    private void castleKing(King king, Rook rook) {
+    private void updateMoveCounters(Player player, boolean irreversible) {
+        BitBoard bitBoard = board.getBitBoard();
+        bitBoard.setHalfmoveClock(irreversible ? 0 : bitBoard.getHalfmoveClock() + 1);
+        if (player.team().equals(Team.BLACK)) {
+            bitBoard.setFullmoveNumber(bitBoard.getFullmoveNumber() + 1);
+        }
+        positionHistory.push(bitBoard.getKey());
+    }
+
+    private void castleKing(Player player, King king, Rook rook) {
         BinaryOperator<Integer> operator = king.getPosition().x() < rook.getPosition().x()
                 ? Integer::sum
                 : (a, b) -> a - b;
-        board.getCells()[operator.apply(king.getPosition().x(), 2)][king.getPosition().y()] = king;
-        board.getCells()[operator.apply(king.getPosition().x(), 1)][king.getPosition().y()] = rook;
-        king.setPosition(new Position(operator.apply(king.getPosition().x(), 2), king.getPosition().y()));
-        rook.setPosition(new Position(operator.apply(king.getPosition().x(), 1), king.getPosition().y()));
+        Position kingPosition = new Position(operator.apply(king.getPosition().x(), 2), king.getPosition().y());
+        Position rookPosition = new Position(operator.apply(king.getPosition().x(), 1), king.getPosition().y());
+        board.setFigure(king.getPosition().x(), king.getPosition().y(), null);
+        board.setFigure(rook.getPosition().x(), rook.getPosition().y(), null);
+        board.setFigure(kingPosition.x(), kingPosition.y(), king);
+        board.setFigure(rookPosition.x(), rookPosition.y(), rook);
+        player.figures().move(king.getPosition().square(), kingPosition.square());
+        player.figures().move(rook.getPosition().square(), rookPosition.square());
+        king.setPosition(kingPosition);
+        rook.setPosition(rookPosition);
         king.setFirstMove(false);
         rook.setFirstMove(false);
     }
 
     private void setPawnsUnreadyToCapture(Player player) {
-        player.figures().forEach(element -> {
-            if (element.getClass().equals(Pawn.class) && ((Pawn) element).isReadyForCaptureByOpponentPawn()) {
-                ((Pawn) element).setReadyForCaptureByOpponentPawn(false);
+        PieceList figures = player.figures();
+        for (int index = 0; index < figures.size(); index++) {
+            Figure figure = figures.get(index);
+            if (figure.getClass().equals(Pawn.class) && ((Pawn) figure).isReadyForCaptureByOpponentPawn()) {
+                ((Pawn) figure).setReadyForCaptureByOpponentPawn(false);
             }
-        });
+        }
     }
 
     private void changePawnStatus(Figure figure) {
@@ -381,97 +374,32 @@ public class Game {
         }
     }
 
-    private Figure promotePawn(Player player, Pawn pawn) {
-        player.figures().removeIf(figure -> figure.equals(pawn));
-        Figure figure = pawn.promote();
+    private void promotePawn(Player player, Pawn pawn, FigureType promotionType) {
+        player.figures().remove(pawn.getPosition().square());
+        Figure figure = pawn.promote(promotionType);
         player.figures().add(figure);
-        return figure;
+        board.setFigure(figure.getPosition().x(), figure.getPosition().y(), figure);
     }
 
-    private void printPlayerMove(Player player, Figure figure, Figure goalFigure, boolean wasPromoted) {
+    private void printPlayerMove(Player player, String notation) {
+        if (!moveSink.isEnabled()) {
+            return;
+        }
         if (player.team().equals(Team.WHITE)) {
-            System.out.printf("%6d. %9s ", moveNumber++, getInfoToPrint(figure, goalFigure, player, wasPromoted));
+            moveSink.write(String.format("%6d. %9s ", board.getBitBoard().getFullmoveNumber(), notation));
         } else {
-            System.out.printf("%9s\n", getInfoToPrint(figure, goalFigure, player, wasPromoted));
-        }
-    }
-
-    private String getInfoToPrint(Figure figure, Figure goalFigure, Player player, boolean wasPromoted) {
-        StringBuilder stringBuilder = new StringBuilder();
-        if (figure.getClass().equals(King.class) && goalFigure != null
-                && goalFigure.getClass().equals(Rook.class)
-                && figure.getTeam().equals(goalFigure.getTeam())) {
-            stringBuilder.repeat(
-                    "O-",
-                    Integer.max(goalFigure.getLastPosition().x(), goalFigure.getPosition().x())
-                            - Integer.min(goalFigure.getLastPosition().x(), goalFigure.getPosition().x())
-            );
-            if (!stringBuilder.isEmpty()) {
-                stringBuilder.deleteCharAt(stringBuilder.length() - 1);
-            }
-            return stringBuilder.toString();
-        }
-        if ((figure.getClass().equals(Pawn.class) || wasPromoted) && goalFigure != null) {
-            stringBuilder.append(String.format("%c", figure.getLastPosition().x() + 'a'));
-        } else if (!wasPromoted) {
-            stringBuilder.append(figure.getName());
-        }
-        Figure sameFigure = player.figures()
-                .stream()
-                .filter(element ->
-                        element.getClass()
-                                .equals(figure.getClass())
-                                && element.findPossibleMoves(board).contains(figure.getPosition()))
-                .findFirst()
-                .orElse(null);
-        if (!figure.getClass().equals(Pawn.class) && sameFigure != null) {
-            if (sameFigure.getPosition().x() != figure.getLastPosition().x()) {
-                stringBuilder.append(String.format("%c", figure.getLastPosition().x() + 'a'));
-            } else if (sameFigure.getPosition().y() != figure.getLastPosition().y()) {
-                stringBuilder.append(String.format("%d", figure.getLastPosition().y() + 1));
-            }
-        }
-        if (goalFigure != null) {
-            stringBuilder.append("x");
-        }
-        stringBuilder.append(String.format("%c", figure.getPosition().x() + 'a'))
-                .append(figure.getPosition().y() + 1);
-        if (wasPromoted) {
-            stringBuilder.append("=").append(figure.getName());
-        }
-        King opponentKing = (King) lastPlayer.figures()
-                .stream()
-                .filter(element -> element.getClass().equals(King.class))
-                .findFirst()
-                .orElseThrow(NullPointerException::new);
-        if (figure.findPossibleMoves(board).contains(opponentKing.getPosition())) {
-            if (timeToGiveUpForOpponentKing(opponentKing, player)) {
-                stringBuilder.append("#");
-            } else {
-                stringBuilder.append("+");
-            }
+            moveSink.write(String.format("%9s\n", notation));
         }
-        return stringBuilder.toString();
-    }
-
-    private boolean timeToGiveUpForOpponentKing(King opponentKing, Player player) {
-        Map<Figure, List<Position>> playerPossibleMoves = getPossibleMovesByFigures(board, player.figures());
-        Map<Figure, List<Position>> opponentPossibleMoves = getPossibleMovesByFigures(board, lastPlayer.figures());
-        List<Position> kingPossibleMoves = opponentKing.findPossibleMoves(board);
-        return opponentKing.opponentCoversAllMoves(playerPossibleMoves, kingPossibleMoves)
-                && findWhoCanProtectTheKing(opponentKing, opponentPossibleMoves, playerPossibleMoves).isEmpty();
     }
 
-    private void printGameResult(boolean isDraw) {
-        System.out.print("\n\n\n\tGAME RESULT: ");
-        if (isDraw) {
-            System.out.print("1/2-1/2");
+    private void printGameResult() {
+        if (result.equals(GameResult.DRAW)) {
+            moveSink.write("\n\n\n\tGAME RESULT: 1/2-1/2\n\n\n");
         } else {
-            System.out.printf("%d-%d\n",
-                    lastPlayer.team().equals(Team.WHITE) ? 1 : 0,
-                    lastPlayer.team().equals(Team.WHITE) ? 0 : 1
-            );
+            moveSink.write(String.format("\n\n\n\tGAME RESULT: %d-%d\n\n\n\n",
+                    result.equals(GameResult.WHITE_WINS) ? 1 : 0,
+                    result.equals(GameResult.WHITE_WINS) ? 0 : 1
+            ));
         }
-        System.out.println("\n\n");
     }
 }
@@ -0,0 +1,17 @@
+package com.internship.model.game;
+
+import com.internship.model.GameResult;
+import com.internship.model.bitboard.BitBoard;
+
+public interface GameRecorder {
+    default void recordStart(BitBoard position) {
+    }
+
+    default boolean usesNotation() {
+        return false;
+    }
+
+    void recordMove(BitBoard position, int move, String notation);
+
+    void recordResult(GameResult result);
+}
@@ -0,0 +1,80 @@
+package com.internship.model.game;
+
+import com.internship.model.bitboard.BitBoard;
+import com.internship.model.bitboard.Bitboards;
+import com.internship.model.figure.Figure;
+import com.internship.model.figure.impl.King;
+
+import java.util.Arrays;
+
+public class PieceList {
+    public static final int CAPACITY = 16;
+
+    private final Figure[] figures = new Figure[CAPACITY];
+    private final byte[] squares = new byte[CAPACITY];
+    private final byte[] indexBySquare = new byte[Bitboards.SQUARES];
+    private int size;
+    private int kingSquare = BitBoard.NO_SQUARE;
+
+    public PieceList() {
+        Arrays.fill(indexBySquare, (byte) -1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Figure get(int index) {
+        return figures[index];
+    }
+
+    public Figure at(int square) {
+        int index = indexBySquare[square];
+        return index < 0 ? null : figures[index];
+    }
+
+    public int getKingSquare() {
+        return kingSquare;
+    }
+
+    public void add(Figure figure) {
+        if (size == CAPACITY) {
+            throw new IllegalStateException("Piece list is full, cannot add " + figure);
+        }
+        int square = figure.getPosition().square();
+        figures[size] = figure;
+        squares[size] = (byte) square;
+        indexBySquare[square] = (byte) size++;
+        if (figure instanceof King) {
+            kingSquare = square;
+        }
+    }
+
+    public Figure remove(int square) {
+        int index = indexBySquare[square];
+        if (index < 0) {
+            return null;
+        }
+        Figure figure = figures[index];
+        size--;
+        figures[index] = figures[size];
+        squares[index] = squares[size];
+        indexBySquare[squares[index]] = (byte) index;
+        figures[size] = null;
+        indexBySquare[square] = -1;
+        if (square == kingSquare) {
+            kingSquare = BitBoard.NO_SQUARE;
+        }
+        return figure;
+    }
+
+    public void move(int from, int to) {
+        int index = indexBySquare[from];
+        squares[index] = (byte) to;
+        indexBySquare[to] = (byte) index;
+        indexBySquare[from] = -1;
+        if (from == kingSquare) {
+            kingSquare = to;
+        }
+    }
+}
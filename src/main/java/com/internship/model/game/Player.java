@@ -1,11 +1,9 @@
 package com.internship.model.game;
 
+import com.internship.engine.MoveStrategy;
 import com.internship.model.Team;
-import com.internship.model.figure.Figure;
 
-import java.util.Set;
-
-public record Player(Game game, Team team, Set<Figure> figures) implements Runnable {
+public record Player(Game game, Team team, PieceList figures, MoveStrategy strategy) implements Runnable {
     @Override
     public void run() {
         while (game.isGameInProcess()) {
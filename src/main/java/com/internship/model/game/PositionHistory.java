@@ -0,0 +1,31 @@
+package com.internship.model.game;
+
+import java.util.Arrays;
+
+class PositionHistory {
+    private long[] keys = new long[256];
+    private int size;
+
+    void clear() {
+        size = 0;
+    }
+
+    void push(long key) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+        }
+        keys[size++] = key;
+    }
+
+    boolean isThreefoldRepetition(int halfmoveClock) {
+        long key = keys[size - 1];
+        int oldest = Math.max(0, size - 1 - halfmoveClock);
+        int repetitions = 1;
+        for (int index = size - 5; index >= oldest; index -= 2) {
+            if (keys[index] == key && ++repetitions == 3) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,143 @@
+package com.internship.notation;
+
+import com.internship.model.GameResult;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static com.internship.notation.BinaryGameWriter.*;
+
+public class BinaryGameArchive implements Closeable {
+    private static final long WINDOW_SIZE = 1L << 30;
+
+    private final FileChannel channel;
+    private final long size;
+
+    private BinaryGameArchive(FileChannel channel) throws IOException {
+        this.channel = channel;
+        size = channel.size();
+        ByteBuffer header = ByteBuffer.allocate(ARCHIVE_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+        }
+        if (header.flip().remaining() < ARCHIVE_HEADER_SIZE || header.getInt() != MAGIC) {
+            throw new IOException("Not a game archive");
+        }
+        int version = header.getInt();
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported archive version: " + version);
+        }
+    }
+
+    public static BinaryGameArchive open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new BinaryGameArchive(channel);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    public class Cursor {
+        private MappedByteBuffer window;
+        private long windowStart;
+        private long nextOffset = ARCHIVE_HEADER_SIZE;
+        private int movesPosition;
+        private int moveCount;
+        private int result;
+        private String fen;
+
+        private Cursor() {
+        }
+
+        public boolean next() throws IOException {
+            long offset = nextOffset;
+            if (offset == size) {
+                return false;
+            }
+            map(offset, GAME_HEADER_SIZE);
+            int gamePosition = (int) (offset - windowStart);
+            int count = window.getShort(gamePosition) & 0xFFFF;
+            int gameResult = window.get(gamePosition + 2) & 0xFF;
+            int flags = window.get(gamePosition + 3) & 0xFF;
+            if (gameResult >= GameResult.values().length) {
+                throw new IOException("Invalid result " + gameResult + " in game at offset " + offset);
+            }
+            if ((flags & ~FEN_START) != 0) {
+                throw new IOException("Invalid flags " + flags + " in game at offset " + offset);
+            }
+            int fenLength = 0;
+            if ((flags & FEN_START) != 0) {
+                map(offset, GAME_HEADER_SIZE + 1);
+                fenLength = 1 + (window.get((int) (offset - windowStart) + GAME_HEADER_SIZE) & 0xFF);
+            }
+            int gameSize = GAME_HEADER_SIZE + fenLength + 2 * count;
+            map(offset, gameSize);
+            gamePosition = (int) (offset - windowStart);
+            if (fenLength == 0) {
+                fen = Fen.START_POSITION;
+            } else {
+                byte[] bytes = new byte[fenLength - 1];
+                window.get(gamePosition + GAME_HEADER_SIZE + 1, bytes);
+                fen = new String(bytes, StandardCharsets.US_ASCII);
+            }
+            moveCount = count;
+            result = gameResult;
+            movesPosition = gamePosition + GAME_HEADER_SIZE + fenLength;
+            nextOffset = offset + gameSize;
+            return true;
+        }
+
+        public int getMoveCount() {
+            return moveCount;
+        }
+
+        public String getFen() {
+            return fen;
+        }
+
+        public GameResult getResult() {
+            return GameResult.values()[result];
+        }
+
+        public int getMove(int index) {
+            return window.getShort(movesPosition + 2 * index) & 0xFFFF;
+        }
+
+        public int[] getMoves() {
+            int[] moves = new int[moveCount];
+            for (int index = 0; index < moveCount; index++) {
+                moves[index] = getMove(index);
+            }
+            return moves;
+        }
+
+        private void map(long offset, int length) throws IOException {
+            if (offset + length > size) {
+                throw new IOException("Truncated game at offset " + offset);
+            }
+            if (window != null && offset >= windowStart && offset + length <= windowStart + window.limit()) {
+                return;
+            }
+            window = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(WINDOW_SIZE, size - offset));
+            window.order(ByteOrder.LITTLE_ENDIAN);
+            windowStart = offset;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.internship.notation;
+
+import com.internship.model.GameResult;
+import com.internship.model.bitboard.BitBoard;
+import com.internship.model.game.GameRecorder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class BinaryGameWriter implements GameRecorder {
+    public static final int MAGIC = 0x52474843;
+    public static final int VERSION = 2;
+    public static final int ARCHIVE_HEADER_SIZE = 8;
+    public static final int GAME_HEADER_SIZE = 4;
+    public static final int MAX_MOVES = 0xFFFF;
+    public static final int FEN_START = 1;
+
+    private final WritableByteChannel archive;
+    private ByteBuffer buffer = ByteBuffer.allocate(GAME_HEADER_SIZE + 2 * 512).order(ByteOrder.LITTLE_ENDIAN);
+    private int flags = 0;
+    private int movesStart = GAME_HEADER_SIZE;
+
+    public BinaryGameWriter(WritableByteChannel archive) {
+        this.archive = archive;
+        buffer.position(GAME_HEADER_SIZE);
+    }
+
+    public static FileChannel createArchive(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(
+                path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING
+        );
+        ByteBuffer header = ByteBuffer.allocate(ARCHIVE_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+        return channel;
+    }
+
+    @Override
+    public void recordStart(BitBoard position) {
+        buffer.clear().position(GAME_HEADER_SIZE);
+        String fen = Fen.toString(position);
+        if (fen.equals(Fen.START_POSITION)) {
+            flags = 0;
+        } else {
+            flags = FEN_START;
+            byte[] bytes = fen.getBytes(StandardCharsets.US_ASCII);
+            buffer.put((byte) bytes.length).put(bytes);
+        }
+        movesStart = buffer.position();
+    }
+
+    @Override
+    public void recordMove(BitBoard position, int move, String notation) {
+        if (buffer.position() == movesStart + 2 * MAX_MOVES) {
+            throw new IllegalStateException("Game is longer than " + MAX_MOVES + " moves");
+        }
+        if (!buffer.hasRemaining()) {
+            ByteBuffer grown = ByteBuffer.allocate(buffer.capacity() * 2).order(ByteOrder.LITTLE_ENDIAN);
+            buffer = grown.put(buffer.flip());
+        }
+        buffer.putShort((short) move);
+    }
+
+    @Override
+    public void recordResult(GameResult result) {
+        buffer.putShort(0, (short) ((buffer.position() - movesStart) / 2))
+                .put(2, (byte) result.ordinal())
+                .put(3, (byte) flags)
+                .flip();
+        try {
+            synchronized (archive) {
+                while (buffer.hasRemaining()) {
+                    archive.write(buffer);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.clear().position(GAME_HEADER_SIZE);
+        flags = 0;
+        movesStart = GAME_HEADER_SIZE;
+    }
+}
@@ -0,0 +1,172 @@
+package com.internship.notation;
+
+import com.internship.model.bitboard.BitBoard;
+import com.internship.model.bitboard.Bitboards;
+import com.internship.model.game.Board;
+
+public final class Fen {
+    public static final String START_POSITION = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    private static final String FIGURE_LETTERS = "pnbrqk";
+
+    private Fen() {
+    }
+
+    public static BitBoard toBitBoard(String fen) {
+        BitBoard board = new BitBoard();
+        load(fen, board);
+        return board;
+    }
+
+    public static void load(String fen, BitBoard board) {
+        board.clear();
+        int length = fen.length();
+        int index = 0;
+        int x = 0;
+        int y = 7;
+        for (; index < length && fen.charAt(index) != ' '; index++) {
+            char symbol = fen.charAt(index);
+            if (symbol == '/') {
+                x = 0;
+                y--;
+            } else if (symbol >= '1' && symbol <= '8') {
+                x += symbol - '0';
+            } else {
+                int type = FIGURE_LETTERS.indexOf(Character.toLowerCase(symbol));
+                if (type < 0 || x > 7 || y < 0) {
+                    throw new IllegalArgumentException("Invalid FEN placement: " + fen);
+                }
+                int color = Character.isUpperCase(symbol) ? BitBoard.WHITE : BitBoard.BLACK;
+                board.putPiece(Bitboards.square(x++, y), BitBoard.piece(color, type));
+            }
+        }
+        index = skipSpaces(fen, index);
+        board.setSideToMove(index < length && fen.charAt(index) == 'b' ? BitBoard.BLACK : BitBoard.WHITE);
+        index = skipSpaces(fen, skipField(fen, index));
+        int castlingRights = 0;
+        for (; index < length && fen.charAt(index) != ' '; index++) {
+            castlingRights |= switch (fen.charAt(index)) {
+                case 'K' -> BitBoard.WHITE_KINGSIDE;
+                case 'Q' -> BitBoard.WHITE_QUEENSIDE;
+                case 'k' -> BitBoard.BLACK_KINGSIDE;
+                case 'q' -> BitBoard.BLACK_QUEENSIDE;
+                default -> 0;
+            };
+        }
+        board.setCastlingRights(castlingRights & supportedCastlingRights(board));
+        index = skipSpaces(fen, index);
+        if (index + 1 < length && fen.charAt(index) != '-') {
+            int enPassantSquare = Bitboards.square(fen.charAt(index) - 'a', fen.charAt(index + 1) - '1');
+            if (isEnPassantTarget(board, enPassantSquare)) {
+                board.setEnPassantSquare(enPassantSquare);
+            }
+        }
+        index = skipSpaces(fen, skipField(fen, index));
+        board.setHalfmoveClock(parseNumber(fen, index, 0));
+        index = skipSpaces(fen, skipField(fen, index));
+        board.setFullmoveNumber(parseNumber(fen, index, 1));
+    }
+
+    public static void load(String fen, Board board) {
+        load(fen, board.getBitBoard());
+        board.rebuildFigures();
+    }
+
+    public static String toString(Board board) {
+        return toString(board.getBitBoard());
+    }
+
+    public static String toString(BitBoard board) {
+        StringBuilder fen = new StringBuilder(90);
+        for (int y = 7; y >= 0; y--) {
+            int empty = 0;
+            for (int x = 0; x < 8; x++) {
+                int piece = board.getPiece(Bitboards.square(x, y));
+                if (piece == BitBoard.NO_PIECE) {
+                    empty++;
+                    continue;
+                }
+                if (empty > 0) {
+                    fen.append(empty);
+                    empty = 0;
+                }
+                char symbol = FIGURE_LETTERS.charAt(BitBoard.typeOf(piece));
+                fen.append(BitBoard.colorOf(piece) == BitBoard.WHITE ? Character.toUpperCase(symbol) : symbol);
+            }
+            if (empty > 0) {
+                fen.append(empty);
+            }
+            if (y > 0) {
+                fen.append('/');
+            }
+        }
+        fen.append(board.getSideToMove() == BitBoard.WHITE ? " w " : " b ");
+        int castlingRights = board.getCastlingRights();
+        if (castlingRights == 0) {
+            fen.append('-');
+        }
+        if ((castlingRights & BitBoard.WHITE_KINGSIDE) != 0) fen.append('K');
+        if ((castlingRights & BitBoard.WHITE_QUEENSIDE) != 0) fen.append('Q');
+        if ((castlingRights & BitBoard.BLACK_KINGSIDE) != 0) fen.append('k');
+        if ((castlingRights & BitBoard.BLACK_QUEENSIDE) != 0) fen.append('q');
+        fen.append(' ');
+        int enPassantSquare = board.getEnPassantSquare();
+        if (enPassantSquare == BitBoard.NO_SQUARE) {
+            fen.append('-');
+        } else {
+            fen.append((char) ('a' + Bitboards.file(enPassantSquare))).append(Bitboards.rank(enPassantSquare) + 1);
+        }
+        return fen.append(' ').append(board.getHalfmoveClock())
+                .append(' ').append(board.getFullmoveNumber())
+                .toString();
+    }
+
+    private static int supportedCastlingRights(BitBoard board) {
+        int rights = 0;
+        if (board.getPiece(4) == BitBoard.piece(BitBoard.WHITE, BitBoard.KING)) {
+            if (board.getPiece(7) == BitBoard.piece(BitBoard.WHITE, BitBoard.ROOK)) rights |= BitBoard.WHITE_KINGSIDE;
+            if (board.getPiece(0) == BitBoard.piece(BitBoard.WHITE, BitBoard.ROOK)) rights |= BitBoard.WHITE_QUEENSIDE;
+        }
+        if (board.getPiece(60) == BitBoard.piece(BitBoard.BLACK, BitBoard.KING)) {
+            if (board.getPiece(63) == BitBoard.piece(BitBoard.BLACK, BitBoard.ROOK)) rights |= BitBoard.BLACK_KINGSIDE;
+            if (board.getPiece(56) == BitBoard.piece(BitBoard.BLACK, BitBoard.ROOK)) rights |= BitBoard.BLACK_QUEENSIDE;
+        }
+        return rights;
+    }
+
+    private static boolean isEnPassantTarget(BitBoard board, int square) {
+        if (square < 0 || square >= Bitboards.SQUARES) {
+            return false;
+        }
+        int color = board.getSideToMove();
+        int pawnSquare = square + (color == BitBoard.WHITE ? -8 : 8);
+        return Bitboards.rank(square) == (color == BitBoard.WHITE ? 5 : 2)
+                && board.getPiece(square) == BitBoard.NO_PIECE
+                && board.getPiece(pawnSquare) == BitBoard.piece(color ^ 1, BitBoard.PAWN);
+    }
+
+    static int parseNumber(String fen, int index, int defaultValue) {
+        if (index >= fen.length() || !Character.isDigit(fen.charAt(index))) {
+            return defaultValue;
+        }
+        int value = 0;
+        for (; index < fen.length() && Character.isDigit(fen.charAt(index)); index++) {
+            value = value * 10 + fen.charAt(index) - '0';
+        }
+        return value;
+    }
+
+    static int skipField(String fen, int index) {
+        while (index < fen.length() && fen.charAt(index) != ' ') {
+            index++;
+        }
+        return index;
+    }
+
+    static int skipSpaces(String fen, int index) {
+        while (index < fen.length() && fen.charAt(index) == ' ') {
+            index++;
+        }
+        return index;
+    }
+}
@@ -0,0 +1,21 @@
+package com.internship.notation;
+
+import com.internship.engine.RandomMoveStrategy;
+import com.internship.model.game.Game;
+
+import java.util.Map;
+
+public record PgnGame(Map<String, String> tags, int[] moves, String result) {
+    public String fen() {
+        return tags.getOrDefault("FEN", Fen.START_POSITION);
+    }
+
+    public Game replay() {
+        Game game = new Game();
+        game.prepareGame(fen(), new RandomMoveStrategy(), new RandomMoveStrategy());
+        for (int move : moves) {
+            game.playMove(move);
+        }
+        return game;
+    }
+}
@@ -0,0 +1,225 @@
+package com.internship.notation;
+
+import com.internship.model.bitboard.BitBoard;
+import com.internship.model.bitboard.MoveGenerator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class PgnReader implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final String DELIMITERS = "{}()[];";
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer bytes = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE).flip();
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final BitBoard position = new BitBoard();
+    private final int[] moveBuffer = new int[MoveGenerator.MAX_MOVES];
+    private final StringBuilder token = new StringBuilder();
+    private boolean endOfInput = false;
+    private boolean flushed = false;
+
+    public PgnReader(ReadableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    public static PgnReader open(Path path) throws IOException {
+        return new PgnReader(FileChannel.open(path, StandardOpenOption.READ));
+    }
+
+    public PgnGame next() throws IOException {
+        Map<String, String> tags = new LinkedHashMap<>();
+        int[] moves = new int[128];
+        int count = 0;
+        boolean inMovetext = false;
+        String result = "*";
+        while (true) {
+            int symbol = skipWhitespace();
+            if (symbol < 0) {
+                if (tags.isEmpty() && !inMovetext) {
+                    return null;
+                }
+                break;
+            }
+            if (symbol == '[') {
+                if (inMovetext) {
+                    break;
+                }
+                read();
+                readTag(tags);
+            } else if (symbol == '{') {
+                skipPast('}');
+            } else if (symbol == ';' || symbol == '%') {
+                skipPast('\n');
+            } else if (symbol == '(') {
+                skipVariation();
+            } else if (symbol == ')' || symbol == '}' || symbol == ']') {
+                read();
+            } else {
+                if (!inMovetext) {
+                    Fen.load(tags.getOrDefault("FEN", Fen.START_POSITION), position);
+                    inMovetext = true;
+                }
+                String text = readToken();
+                if (isResult(text)) {
+                    result = text;
+                    break;
+                }
+                String san = stripMoveNumber(text);
+                if (san.isEmpty() || san.charAt(0) == '$') {
+                    continue;
+                }
+                int move;
+                try {
+                    move = San.decode(position, san, moveBuffer);
+                } catch (IllegalArgumentException e) {
+                    skipGame();
+                    throw new IllegalArgumentException(e.getMessage() + " at ply " + (count + 1) + " of " + tags, e);
+                }
+                position.doMove(move);
+                if (count == moves.length) {
+                    moves = Arrays.copyOf(moves, count * 2);
+                }
+                moves[count++] = move;
+            }
+        }
+        return new PgnGame(tags, Arrays.copyOf(moves, count), result);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void readTag(Map<String, String> tags) throws IOException {
+        skipWhitespace();
+        String name = readToken();
+        int symbol = skipWhitespace();
+        StringBuilder value = new StringBuilder();
+        if (symbol == '"') {
+            read();
+            for (symbol = read(); symbol >= 0 && symbol != '"'; symbol = read()) {
+                if (symbol == '\\') {
+                    symbol = read();
+                }
+                if (symbol >= 0) {
+                    value.append((char) symbol);
+                }
+            }
+        }
+        skipPast(']');
+        tags.put(name, value.toString());
+    }
+
+    private String readToken() throws IOException {
+        token.setLength(0);
+        for (int symbol = peek(); symbol > ' ' && DELIMITERS.indexOf(symbol) < 0 && symbol != '"'; symbol = peek()) {
+            token.append((char) read());
+        }
+        if (token.isEmpty()) {
+            token.append((char) read());
+        }
+        return token.toString();
+    }
+
+    private void skipGame() throws IOException {
+        for (int symbol = skipWhitespace(); symbol >= 0 && symbol != '['; symbol = skipWhitespace()) {
+            if (symbol == '{') {
+                skipPast('}');
+            } else if (symbol == ';') {
+                skipPast('\n');
+            } else if (isResult(readToken())) {
+                return;
+            }
+        }
+    }
+
+    private void skipVariation() throws IOException {
+        int depth = 0;
+        for (int symbol = read(); symbol >= 0; symbol = read()) {
+            if (symbol == '(') {
+                depth++;
+            } else if (symbol == ')' && --depth == 0) {
+                return;
+            } else if (symbol == '{') {
+                skipPast('}');
+            }
+        }
+    }
+
+    private void skipPast(char end) throws IOException {
+        for (int symbol = read(); symbol >= 0 && symbol != end; symbol = read()) {
+        }
+    }
+
+    private int skipWhitespace() throws IOException {
+        int symbol = peek();
+        while (symbol >= 0 && symbol <= ' ') {
+            read();
+            symbol = peek();
+        }
+        return symbol;
+    }
+
+    private static boolean isResult(String text) {
+        return text.equals("1-0") || text.equals("0-1") || text.equals("1/2-1/2") || text.equals("*");
+    }
+
+    private static String stripMoveNumber(String text) {
+        int index = 0;
+        while (index < text.length() && Character.isDigit(text.charAt(index))) {
+            index++;
+        }
+        if (index == 0 || index == text.length() || text.charAt(index) != '.') {
+            return index == text.length() ? "" : text;
+        }
+        while (index < text.length() && text.charAt(index) == '.') {
+            index++;
+        }
+        return text.substring(index);
+    }
+
+    private int peek() throws IOException {
+        return chars.hasRemaining() || fill() ? chars.get(chars.position()) : -1;
+    }
+
+    private int read() throws IOException {
+        return chars.hasRemaining() || fill() ? chars.get() : -1;
+    }
+
+    private boolean fill() throws IOException {
+        if (flushed) {
+            return false;
+        }
+        chars.compact();
+        while (chars.position() == 0 && !(endOfInput && bytes.position() == 0)) {
+            if (!endOfInput) {
+                endOfInput = channel.read(bytes) < 0;
+            }
+            bytes.flip();
+            decoder.decode(bytes, chars, endOfInput);
+            bytes.compact();
+        }
+        if (endOfInput && chars.position() == 0) {
+            decoder.flush(chars);
+            flushed = true;
+        }
+        chars.flip();
+        return chars.hasRemaining();
+    }
+}
@@ -0,0 +1,106 @@
+package com.internship.notation;
+
+import com.internship.model.GameResult;
+import com.internship.model.bitboard.BitBoard;
+import com.internship.model.game.GameRecorder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class PgnWriter implements GameRecorder {
+    private static final int LINE_LENGTH = 79;
+
+    private final Appendable out;
+    private final Map<String, String> tags = new LinkedHashMap<>();
+    private final StringBuilder movetext = new StringBuilder();
+    private int lineStart = 0;
+    private int moveNumber = 1;
+    private boolean firstMove = true;
+
+    public PgnWriter(Appendable out) {
+        this(out, Map.of());
+    }
+
+    public PgnWriter(Appendable out, Map<String, String> tags) {
+        this.out = out;
+        this.tags.put("Event", "?");
+        this.tags.put("Site", "?");
+        this.tags.put("Date", "????.??.??");
+        this.tags.put("Round", "?");
+        this.tags.put("White", "?");
+        this.tags.put("Black", "?");
+        this.tags.put("Result", "*");
+        this.tags.putAll(tags);
+    }
+
+    @Override
+    public void recordStart(BitBoard position) {
+        String fen = Fen.toString(position);
+        if (fen.equals(Fen.START_POSITION)) {
+            tags.remove("SetUp");
+            tags.remove("FEN");
+        } else {
+            tags.put("SetUp", "1");
+            tags.put("FEN", fen);
+        }
+        moveNumber = position.getFullmoveNumber();
+        firstMove = true;
+    }
+
+    @Override
+    public boolean usesNotation() {
+        return true;
+    }
+
+    @Override
+    public void recordMove(BitBoard position, int move, String notation) {
+        boolean white = position.getSideToMove() == BitBoard.WHITE;
+        if (white) {
+            appendToken(moveNumber + ".");
+        } else if (firstMove) {
+            appendToken(moveNumber + "...");
+        }
+        appendToken(notation);
+        if (!white) {
+            moveNumber++;
+        }
+        firstMove = false;
+    }
+
+    @Override
+    public void recordResult(GameResult result) {
+        String token = switch (result) {
+            case WHITE_WINS -> "1-0";
+            case BLACK_WINS -> "0-1";
+            case DRAW -> "1/2-1/2";
+        };
+        tags.put("Result", token);
+        appendToken(token);
+        StringBuilder game = new StringBuilder(movetext.length() + 256);
+        tags.forEach((name, value) -> game.append('[').append(name).append(" \"")
+                .append(value.replace("\\", "\\\\").replace("\"", "\\\""))
+                .append("\"]\n"));
+        game.append('\n').append(movetext).append("\n\n");
+        try {
+            synchronized (out) {
+                out.append(game);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void appendToken(String token) {
+        if (movetext.length() > lineStart) {
+            if (movetext.length() - lineStart + 1 + token.length() > LINE_LENGTH) {
+                movetext.append('\n');
+                lineStart = movetext.length();
+            } else {
+                movetext.append(' ');
+            }
+        }
+        movetext.append(token);
+    }
+}
@@ -0,0 +1,162 @@
+package com.internship.notation;
+
+import com.internship.model.bitboard.Attacks;
+import com.internship.model.bitboard.BitBoard;
+import com.internship.model.bitboard.Bitboards;
+import com.internship.model.bitboard.Move;
+import com.internship.model.bitboard.MoveGenerator;
+
+public final class San {
+    private static final String FIGURE_LETTERS = " NBRQK";
+
+    private San() {
+    }
+
+    public static String encode(BitBoard position, int move, int[] moves) {
+        return encode(position, move, true, moves);
+    }
+
+    public static String encode(BitBoard position, int move, boolean annotate, int[] moves) {
+        StringBuilder san = new StringBuilder(8);
+        int from = Move.from(move);
+        int to = Move.to(move);
+        int type = BitBoard.typeOf(position.getPiece(from));
+        if (Move.flag(move) == Move.KING_CASTLE) {
+            san.append("O-O");
+        } else if (Move.flag(move) == Move.QUEEN_CASTLE) {
+            san.append("O-O-O");
+        } else {
+            if (type == BitBoard.PAWN) {
+                if (Move.isCapture(move)) {
+                    san.append(fileName(from));
+                }
+            } else {
+                san.append(FIGURE_LETTERS.charAt(type));
+                appendDisambiguation(san, position, move, type);
+            }
+            if (Move.isCapture(move)) {
+                san.append('x');
+            }
+            san.append(fileName(to)).append(Bitboards.rank(to) + 1);
+            if (Move.isPromotion(move)) {
+                san.append('=').append(FIGURE_LETTERS.charAt(Move.promotionType(move)));
+            }
+        }
+        if (annotate) {
+            appendCheck(san, position, move, moves);
+        }
+        return san.toString();
+    }
+
+    public static int decode(BitBoard position, String san, int[] moves) {
+        int length = san.length();
+        while (length > 0 && "+#!?".indexOf(san.charAt(length - 1)) >= 0) {
+            length--;
+        }
+        int count = MoveGenerator.generateLegal(position, moves);
+        String text = san.substring(0, length);
+        if (text.equals("O-O") || text.equals("0-0") || text.equals("O-O-O") || text.equals("0-0-0")) {
+            int flag = length == 3 ? Move.KING_CASTLE : Move.QUEEN_CASTLE;
+            for (int index = 0; index < count; index++) {
+                if (Move.flag(moves[index]) == flag) {
+                    return moves[index];
+                }
+            }
+            throw new IllegalArgumentException("Illegal move: " + san);
+        }
+        return decodeFigureMove(position, san, text, length, moves, count);
+    }
+
+    private static int decodeFigureMove(BitBoard position, String san, String text, int length, int[] moves, int count) {
+        int promotionType = BitBoard.NO_PIECE;
+        int promotionIndex = text.indexOf('=');
+        if (promotionIndex >= 0 && promotionIndex + 1 < length) {
+            promotionType = FIGURE_LETTERS.indexOf(text.charAt(promotionIndex + 1));
+            length = promotionIndex;
+        }
+        int start = 0;
+        int type = BitBoard.PAWN;
+        if (length > 0 && FIGURE_LETTERS.indexOf(text.charAt(0)) > 0) {
+            type = FIGURE_LETTERS.indexOf(text.charAt(0));
+            start = 1;
+        }
+        if (length - start < 2) {
+            throw new IllegalArgumentException("Invalid move: " + san);
+        }
+        int to = Bitboards.square(text.charAt(length - 2) - 'a', text.charAt(length - 1) - '1');
+        int fromFile = -1;
+        int fromRank = -1;
+        for (int index = start; index < length - 2; index++) {
+            char symbol = text.charAt(index);
+            if (symbol >= 'a' && symbol <= 'h') {
+                fromFile = symbol - 'a';
+            } else if (symbol >= '1' && symbol <= '8') {
+                fromRank = symbol - '1';
+            }
+        }
+        int legalMove = Move.NONE;
+        for (int index = 0; index < count; index++) {
+            int move = moves[index];
+            int from = Move.from(move);
+            if (Move.to(move) != to
+                    || BitBoard.typeOf(position.getPiece(from)) != type
+                    || fromFile >= 0 && Bitboards.file(from) != fromFile
+                    || fromRank >= 0 && Bitboards.rank(from) != fromRank
+                    || (Move.isPromotion(move) ? Move.promotionType(move) != promotionType
+                    : promotionType != BitBoard.NO_PIECE)) {
+                continue;
+            }
+            if (legalMove != Move.NONE) {
+                throw new IllegalArgumentException("Ambiguous move: " + san);
+            }
+            legalMove = move;
+        }
+        if (legalMove == Move.NONE) {
+            throw new IllegalArgumentException("Illegal move: " + san);
+        }
+        return legalMove;
+    }
+
+    private static void appendDisambiguation(StringBuilder san, BitBoard position, int move, int type) {
+        int from = Move.from(move);
+        int to = Move.to(move);
+        int color = position.getSideToMove();
+        long rivals = Attacks.of(type, color, to, position.getOccupancy())
+                & position.getPieces(color, type)
+                & ~Bitboards.bit(from);
+        boolean sameFile = false;
+        boolean sameRank = false;
+        boolean ambiguous = false;
+        for (; rivals != 0; rivals &= rivals - 1) {
+            int rival = Bitboards.lowestSquare(rivals);
+            if (!position.isLegal(Move.of(rival, to, Move.flag(move) & Move.CAPTURE))) {
+                continue;
+            }
+            ambiguous = true;
+            sameFile |= Bitboards.file(rival) == Bitboards.file(from);
+            sameRank |= Bitboards.rank(rival) == Bitboards.rank(from);
+        }
+        if (!ambiguous) {
+            return;
+        }
+        if (!sameFile) {
+            san.append(fileName(from));
+        } else if (!sameRank) {
+            san.append(Bitboards.rank(from) + 1);
+        } else {
+            san.append(fileName(from)).append(Bitboards.rank(from) + 1);
+        }
+    }
+
+    private static void appendCheck(StringBuilder san, BitBoard position, int move, int[] moves) {
+        position.doMove(move);
+        if (position.isInCheck(position.getSideToMove())) {
+            san.append(MoveGenerator.hasLegalMove(position, moves) ? '+' : '#');
+        }
+        position.undoMove(move);
+    }
+
+    private static char fileName(int square) {
+        return (char) ('a' + Bitboards.file(square));
+    }
+}
@@ -0,0 +1,181 @@
+package com.internship.output;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hands text to a single writer thread through a bounded ring. Writers never wait for I/O: when the ring is
+ * full the text is dropped and counted in {@link #getDroppedWrites()}.
+ */
+public class AsyncMoveSink implements MoveSink {
+    public static final int DEFAULT_CAPACITY = 1 << 14;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final long CLOSED = Long.MIN_VALUE;
+
+    private final WritableByteChannel channel;
+    private final boolean ownsChannel;
+    private final AtomicReferenceArray<String> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder droppedWrites = new LongAdder();
+    private volatile long head = 0;
+    private volatile boolean waiting = false;
+    private volatile IOException failure;
+    private Thread writer;
+
+    private AsyncMoveSink(WritableByteChannel channel, boolean ownsChannel, int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.channel = channel;
+        this.ownsChannel = ownsChannel;
+        slots = new AtomicReferenceArray<>(capacity);
+        mask = capacity - 1;
+    }
+
+    public static AsyncMoveSink of(WritableByteChannel channel) {
+        return of(channel, DEFAULT_CAPACITY);
+    }
+
+    public static AsyncMoveSink of(WritableByteChannel channel, int capacity) {
+        return start(new AsyncMoveSink(channel, true, capacity));
+    }
+
+    public static AsyncMoveSink toConsole() {
+        return start(new AsyncMoveSink(new FileOutputStream(FileDescriptor.out).getChannel(), false, DEFAULT_CAPACITY));
+    }
+
+    public static AsyncMoveSink toFile(Path path) throws IOException {
+        return of(FileChannel.open(
+                path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING
+        ));
+    }
+
+    private static AsyncMoveSink start(AsyncMoveSink sink) {
+        sink.writer = Thread.ofPlatform().name("move-sink").daemon().start(sink::drain);
+        return sink;
+    }
+
+    public long getDroppedWrites() {
+        return droppedWrites.sum();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void write(String text) {
+        long sequence;
+        do {
+            sequence = tail.get();
+            if (sequence < 0) {
+                throw new IllegalStateException("Sink is closed");
+            }
+            if (sequence - head > mask) {
+                droppedWrites.increment();
+                LockSupport.unpark(writer);
+                return;
+            }
+        } while (!tail.compareAndSet(sequence, sequence + 1));
+        slots.set((int) sequence & mask, text);
+        if (waiting) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (tail.getAndUpdate(sequence -> sequence | CLOSED) < 0) {
+            return;
+        }
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (ownsChannel) {
+            channel.close();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void drain() {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        while (true) {
+            long reserved = tail.get();
+            String text = take();
+            if (text != null) {
+                append(buffer, text.getBytes(StandardCharsets.UTF_8));
+                continue;
+            }
+            flush(buffer);
+            if (reserved < 0 && head == (reserved & ~CLOSED)) {
+                return;
+            }
+            waiting = true;
+            if (slots.get((int) head & mask) == null && tail.get() >= 0) {
+                LockSupport.park(this);
+            }
+            waiting = false;
+        }
+    }
+
+    private String take() {
+        int index = (int) head & mask;
+        String text = slots.get(index);
+        if (text != null) {
+            slots.set(index, null);
+            head = head + 1;
+        }
+        return text;
+    }
+
+    private void append(ByteBuffer buffer, byte[] bytes) {
+        if (bytes.length > buffer.remaining()) {
+            flush(buffer);
+        }
+        if (bytes.length > buffer.capacity()) {
+            writeFully(ByteBuffer.wrap(bytes));
+        } else {
+            buffer.put(bytes);
+        }
+    }
+
+    private void flush(ByteBuffer buffer) {
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    private void writeFully(ByteBuffer buffer) {
+        if (failure != null) {
+            return;
+        }
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            failure = e;
+        }
+    }
+}
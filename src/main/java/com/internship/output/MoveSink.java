@@ -0,0 +1,11 @@
+package com.internship.output;
+
+import java.io.Closeable;
+
+public interface MoveSink extends Closeable {
+    MoveSink NONE = new NoOpMoveSink();
+
+    boolean isEnabled();
+
+    void write(String text);
+}
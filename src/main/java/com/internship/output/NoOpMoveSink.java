@@ -0,0 +1,16 @@
+package com.internship.output;
+
+public class NoOpMoveSink implements MoveSink {
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public void write(String text) {
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,30 @@
+package com.internship.simulation;
+
+public record SimulationReport(
+        int games,
+        int whiteWins,
+        int blackWins,
+        int draws,
+        long totalPlies,
+        int minPlies,
+        int maxPlies,
+        long elapsedNanos
+) {
+    public double averagePlies() {
+        return games == 0 ? 0 : (double) totalPlies / games;
+    }
+
+    public double gamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "Games: %d (white %d, black %d, draw %d)%nPlies: avg %.1f, min %d, max %d%nTime: %d ms (%.1f games/sec)",
+                games, whiteWins, blackWins, draws,
+                averagePlies(), minPlies, maxPlies,
+                elapsedNanos / 1_000_000, gamesPerSecond()
+        );
+    }
+}
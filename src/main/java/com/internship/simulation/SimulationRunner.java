@@ -0,0 +1,170 @@
+package com.internship.simulation;
+
+import com.internship.engine.MoveStrategy;
+import com.internship.engine.RandomMoveStrategy;
+import com.internship.model.GameResult;
+import com.internship.model.game.Adjudication;
+import com.internship.model.game.Game;
+import com.internship.model.game.GameRecorder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+public class SimulationRunner {
+    private final int parallelism;
+    private final Supplier<MoveStrategy> whiteStrategies;
+    private final Supplier<MoveStrategy> blackStrategies;
+    private final Adjudication adjudication;
+
+    public SimulationRunner(int parallelism) {
+        this(parallelism, Adjudication.NONE);
+    }
+
+    public SimulationRunner(int parallelism, Adjudication adjudication) {
+        this(parallelism, RandomMoveStrategy::new, RandomMoveStrategy::new, adjudication);
+    }
+
+    public SimulationRunner(
+            int parallelism,
+            Supplier<MoveStrategy> whiteStrategies,
+            Supplier<MoveStrategy> blackStrategies
+    ) {
+        this(parallelism, whiteStrategies, blackStrategies, Adjudication.NONE);
+    }
+
+    public SimulationRunner(
+            int parallelism,
+            Supplier<MoveStrategy> whiteStrategies,
+            Supplier<MoveStrategy> blackStrategies,
+            Adjudication adjudication
+    ) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+        this.parallelism = parallelism;
+        this.whiteStrategies = whiteStrategies;
+        this.blackStrategies = blackStrategies;
+        this.adjudication = adjudication;
+    }
+
+    public SimulationReport run(int games) throws InterruptedException {
+        return run(games, null);
+    }
+
+    public SimulationReport run(int games, IntFunction<GameRecorder> recorders) throws InterruptedException {
+        AtomicIntegerArray results = new AtomicIntegerArray(GameResult.values().length);
+        LongAdder totalPlies = new LongAdder();
+        LongAccumulator minPlies = new LongAccumulator(Math::min, Integer.MAX_VALUE);
+        LongAccumulator maxPlies = new LongAccumulator(Math::max, 0);
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        List<Future<?>> futures = new ArrayList<>(games);
+        try {
+            for (int index = 0; index < games; index++) {
+                int round = index + 1;
+                futures.add(executor.submit(() -> {
+                    Game game = new Game();
+                    game.prepareGame(whiteStrategies.get(), blackStrategies.get());
+                    game.setAdjudication(adjudication);
+                    if (recorders != null) {
+                        game.setRecorder(recorders.apply(round));
+                    }
+                    results.incrementAndGet(game.play().ordinal());
+                    totalPlies.add(game.getPlyCount());
+                    minPlies.accumulate(game.getPlyCount());
+                    maxPlies.accumulate(game.getPlyCount());
+                }));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        awaitAll(futures);
+        long elapsedNanos = System.nanoTime() - start;
+        return new SimulationReport(
+                games,
+                results.get(GameResult.WHITE_WINS.ordinal()),
+                results.get(GameResult.BLACK_WINS.ordinal()),
+                results.get(GameResult.DRAW.ordinal()),
+                totalPlies.sum(),
+                games == 0 ? 0 : minPlies.intValue(),
+                maxPlies.intValue(),
+                elapsedNanos
+        );
+    }
+
+    public SimulationReport runLive(int games) throws InterruptedException {
+        Game[] liveGames = new Game[games];
+        long start = System.nanoTime();
+        for (int index = 0; index < games; index++) {
+            liveGames[index] = new Game();
+            liveGames[index].prepareGame(whiteStrategies.get(), blackStrategies.get());
+            liveGames[index].setAdjudication(adjudication);
+            liveGames[index].startGame(Thread.ofVirtual());
+        }
+        int[] results = new int[GameResult.values().length];
+        long totalPlies = 0;
+        int minPlies = games == 0 ? 0 : Integer.MAX_VALUE;
+        int maxPlies = 0;
+        IllegalStateException failure = null;
+        for (int index = 0; index < games; index++) {
+            Game game = liveGames[index];
+            game.awaitEnd();
+            if (game.getFailure() != null) {
+                if (failure == null) {
+                    failure = new IllegalStateException("Game " + (index + 1) + " failed", game.getFailure());
+                } else {
+                    failure.addSuppressed(game.getFailure());
+                }
+                continue;
+            }
+            results[game.getResult().ordinal()]++;
+            totalPlies += game.getPlyCount();
+            minPlies = Math.min(minPlies, game.getPlyCount());
+            maxPlies = Math.max(maxPlies, game.getPlyCount());
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return new SimulationReport(
+                games,
+                results[GameResult.WHITE_WINS.ordinal()],
+                results[GameResult.BLACK_WINS.ordinal()],
+                results[GameResult.DRAW.ordinal()],
+                totalPlies,
+                minPlies,
+                maxPlies,
+                System.nanoTime() - start
+        );
+    }
+
+    private static void awaitAll(List<Future<?>> futures) throws InterruptedException {
+        IllegalStateException failure = null;
+        for (int index = 0; index < futures.size(); index++) {
+            try {
+                futures.get(index).get();
+            } catch (CancellationException e) {
+                continue;
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = new IllegalStateException("Game " + (index + 1) + " failed", e.getCause());
+                    futures.forEach(future -> future.cancel(false));
+                } else {
+                    failure.addSuppressed(e.getCause());
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.internship.engine;
+
+import com.internship.model.bitboard.BitBoard;
+import com.internship.model.bitboard.Move;
+import com.internship.model.bitboard.MoveGenerator;
+import com.internship.notation.Fen;
+import com.internship.notation.San;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AlphaBetaSearchTest {
+    private final int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+    @Test
+    void findsMateInOne() {
+        BitBoard board = Fen.toBitBoard("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1");
+        AlphaBetaSearch search = new AlphaBetaSearch(SearchLimits.depth(4));
+        assertEquals("Ra8#", San.encode(board, search.chooseMove(board), moves));
+        assertEquals(AlphaBetaSearch.MATE - 1, search.getBestScore());
+    }
+
+    @Test
+    void findsMateInTwoThroughTheTable() {
+        BitBoard board = Fen.toBitBoard("k7/8/2K5/8/8/8/8/1R6 w - - 0 1");
+        AlphaBetaSearch search = new AlphaBetaSearch(SearchLimits.depth(6));
+        int move = search.chooseMove(board);
+        assertEquals(AlphaBetaSearch.MATE - 3, search.getBestScore());
+        assertEquals(move, search.chooseMove(board));
+        assertEquals(AlphaBetaSearch.MATE - 3, search.getBestScore());
+    }
+
+    @Test
+    void seesBeingMated() {
+        BitBoard board = Fen.toBitBoard("k7/8/1K6/8/8/8/8/7R b - - 0 1");
+        AlphaBetaSearch search = new AlphaBetaSearch(SearchLimits.depth(4));
+        search.chooseMove(board);
+        assertEquals(-AlphaBetaSearch.MATE + 2, search.getBestScore());
+    }
+
+    @Test
+    void winsHangingPiece() {
+        BitBoard board = Fen.toBitBoard("4k3/8/8/3q4/8/8/8/3RK3 w - - 0 1");
+        assertEquals("Rxd5", San.encode(board, new AlphaBetaSearch(SearchLimits.depth(3)).chooseMove(board), moves));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "k7/2Q5/1K6/8/8/8/8/8 b - - 0 1",
+            "R5k1/5ppp/8/8/8/8/8/6K1 b - - 0 1"
+    })
+    void returnsNoMoveWithoutLegalMoves(String fen) {
+        assertEquals(Move.NONE, new AlphaBetaSearch(SearchLimits.depth(4)).chooseMove(Fen.toBitBoard(fen)));
+    }
+
+    @Test
+    void stopsAtNodeLimit() {
+        BitBoard board = Fen.toBitBoard("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        AlphaBetaSearch search = new AlphaBetaSearch(SearchLimits.nodes(5_000));
+        int move = search.chooseMove(board);
+        assertTrue(search.getNodes() <= 5_000 + 1024, () -> "nodes " + search.getNodes());
+        assertTrue(isLegal(board, move));
+        assertTrue(search.getCompletedDepth() < SearchLimits.MAX_DEPTH);
+    }
+
+    @Test
+    void stopsAtTimeLimit() {
+        BitBoard board = Fen.toBitBoard("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        long start = System.nanoTime();
+        int move = new AlphaBetaSearch(SearchLimits.millis(100)).chooseMove(board);
+        assertTrue(System.nanoTime() - start < 2_000_000_000L);
+        assertTrue(isLegal(board, move));
+    }
+
+    private boolean isLegal(BitBoard board, int move) {
+        int count = MoveGenerator.generateLegal(board, moves);
+        for (int index = 0; index < count; index++) {
+            if (moves[index] == move) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,86 @@
+package com.internship.engine;
+
+import com.internship.model.bitboard.BitBoard;
+import com.internship.model.bitboard.MoveGenerator;
+import com.internship.notation.Fen;
+import com.internship.notation.San;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LazySmpSearchTest {
+    private static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+
+    private final int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+    @Test
+    void returnsLegalMove() {
+        BitBoard board = Fen.toBitBoard(KIWIPETE);
+        try (LazySmpSearch search = new LazySmpSearch(4, 4, SearchLimits.depth(4))) {
+            assertTrue(isLegal(board, search.chooseMove(board)));
+            assertTrue(search.getNodes() > 0);
+        }
+        assertEquals(KIWIPETE, Fen.toString(board));
+    }
+
+    @Test
+    void agreesWithSingleThreadOnForcedMate() {
+        BitBoard board = Fen.toBitBoard("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1");
+        int single = new AlphaBetaSearch(SearchLimits.depth(4)).chooseMove(board);
+        try (LazySmpSearch search = new LazySmpSearch(4, 4, SearchLimits.depth(4))) {
+            assertEquals(single, search.chooseMove(board));
+        }
+        assertEquals("Ra8#", San.encode(board, single, moves));
+    }
+
+    @Test
+    void playsIntoMateInTwo() {
+        BitBoard board = Fen.toBitBoard("k7/8/2K5/8/8/8/8/1R6 w - - 0 1");
+        int move;
+        try (LazySmpSearch search = new LazySmpSearch(3, 4, SearchLimits.depth(6))) {
+            move = search.chooseMove(board);
+        }
+        board.doMove(move);
+        AlphaBetaSearch reply = new AlphaBetaSearch(SearchLimits.depth(4));
+        reply.chooseMove(board);
+        assertEquals(-AlphaBetaSearch.MATE + 2, reply.getBestScore());
+    }
+
+    @Test
+    void stopsAllWorkersAtLimit() throws InterruptedException {
+        BitBoard board = Fen.toBitBoard(KIWIPETE);
+        try (LazySmpSearch search = new LazySmpSearch(3, 4, SearchLimits.millis(100))) {
+            long start = System.nanoTime();
+            assertTrue(isLegal(board, search.chooseMove(board)));
+            assertTrue(System.nanoTime() - start < 2_000_000_000L);
+            long nodes = search.getNodes();
+            Thread.sleep(50);
+            assertEquals(nodes, search.getNodes());
+        }
+        try (LazySmpSearch search = new LazySmpSearch(3, 4, SearchLimits.nodes(20_000))) {
+            assertTrue(isLegal(board, search.chooseMove(board)));
+        }
+        long deadline = System.nanoTime() + 2_000_000_000L;
+        while (helperThreads() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, helperThreads());
+    }
+
+    private static long helperThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("lazy-smp-helper") && thread.isAlive())
+                .count();
+    }
+
+    private boolean isLegal(BitBoard board, int move) {
+        int count = MoveGenerator.generateLegal(board, moves);
+        for (int index = 0; index < count; index++) {
+            if (moves[index] == move) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,126 @@
+package com.internship.engine;
+
+import com.internship.model.bitboard.BitBoard;
+import com.internship.model.bitboard.Bitboards;
+import com.internship.model.bitboard.Move;
+import com.internship.model.bitboard.MoveGenerator;
+import com.internship.notation.Fen;
+import com.internship.notation.San;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MovePickerTest {
+    private static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+
+    private final MovePicker picker = new MovePicker();
+    private final int[][] history = new int[2][Bitboards.SQUARES * Bitboards.SQUARES];
+    private final int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            Fen.START_POSITION,
+            KIWIPETE,
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+            "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+            "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+            "4k3/8/8/3pP3/8/8/8/4K3 w - d6 0 1"
+    })
+    void emitsExactlyTheLegalMoves(String fen) {
+        BitBoard board = Fen.toBitBoard(fen);
+        int count = MoveGenerator.generateLegal(board, moves);
+        Set<Integer> legal = new HashSet<>();
+        for (int index = 0; index < count; index++) {
+            legal.add(moves[index]);
+        }
+        Random random = new Random(21);
+        for (int round = 0; round < 50; round++) {
+            int hashMove = round % 3 == 0 ? Move.NONE : moves[random.nextInt(count)];
+            int firstKiller = round % 5 == 0 ? hashMove : moves[random.nextInt(count)];
+            int secondKiller = round % 7 == 0 ? Move.of(random.nextInt(64), random.nextInt(64), Move.QUIET) : moves[random.nextInt(count)];
+            picker.init(board, hashMove, firstKiller, secondKiller, history);
+            List<Integer> emitted = drain();
+            assertEquals(legal, new HashSet<>(emitted));
+            assertEquals(legal.size(), emitted.size());
+            if (hashMove != Move.NONE) {
+                assertEquals(hashMove, emitted.get(0));
+            }
+        }
+        assertEquals(fen, Fen.toString(board));
+    }
+
+    @Test
+    void skipsIllegalHashMoveAndKillers() {
+        BitBoard board = Fen.toBitBoard(KIWIPETE);
+        int illegal = Move.of(Bitboards.square(4, 0), Bitboards.square(4, 2), Move.QUIET);
+        picker.init(board, illegal, illegal, Move.of(Bitboards.square(0, 1), Bitboards.square(0, 4), Move.QUIET), history);
+        List<Integer> emitted = drain();
+        assertFalse(emitted.contains(illegal));
+        assertEquals(MoveGenerator.generateLegal(board, moves), emitted.size());
+    }
+
+    @Test
+    void ordersCapturesByVictimThenAttacker() {
+        BitBoard board = Fen.toBitBoard(KIWIPETE);
+        picker.init(board, Move.NONE, Move.NONE, Move.NONE, history);
+        int previous = Integer.MAX_VALUE;
+        int captures = 0;
+        for (int move = picker.next(); move != Move.NONE && Move.isCapture(move); move = picker.next()) {
+            int score = Evaluator.FIGURE_VALUES[BitBoard.typeOf(board.getPiece(Move.to(move)))] * 8
+                    - BitBoard.typeOf(board.getPiece(Move.from(move)));
+            assertTrue(score <= previous);
+            previous = score;
+            captures++;
+        }
+        assertEquals(8, captures);
+    }
+
+    @Test
+    void emitsLegalKillerRightAfterCaptures() {
+        BitBoard board = Fen.toBitBoard(KIWIPETE);
+        int killer = San.decode(board, "a3", moves);
+        picker.init(board, killer, killer, Move.NONE, history);
+        List<Integer> emitted = drain();
+        assertEquals(killer, emitted.get(0));
+        assertEquals(1, emitted.stream().filter(move -> move == killer).count());
+
+        int secondKiller = San.decode(board, "g3", moves);
+        picker.init(board, Move.NONE, killer, secondKiller, history);
+        emitted = drain();
+        int firstQuiet = 0;
+        while (Move.isCapture(emitted.get(firstQuiet)) || Move.isPromotion(emitted.get(firstQuiet))) {
+            firstQuiet++;
+        }
+        assertEquals(killer, emitted.get(firstQuiet));
+        assertEquals(secondKiller, emitted.get(firstQuiet + 1));
+    }
+
+    @Test
+    void tacticalPickerEmitsOnlyCaptures() {
+        BitBoard board = Fen.toBitBoard(KIWIPETE);
+        picker.initTactical(board);
+        List<Integer> emitted = drain();
+        assertEquals(MoveGenerator.generateLegal(board, moves, MoveGenerator.TACTICAL_MOVES), emitted.size());
+        for (int move : emitted) {
+            assertTrue(Move.isCapture(move) || Move.isPromotion(move));
+        }
+    }
+
+    private List<Integer> drain() {
+        List<Integer> emitted = new ArrayList<>();
+        for (int move = picker.next(); move != Move.NONE; move = picker.next()) {
+            emitted.add(move);
+        }
+        return emitted;
+    }
+}
@@ -0,0 +1,32 @@
+package com.internship.engine;
+
+import com.internship.model.bitboard.BitBoard;
+import com.internship.model.bitboard.MoveGenerator;
+import com.internship.notation.Fen;
+import com.internship.notation.San;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StaticExchangeTest {
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = {
+            "1k1r4/1pp4p/p7/4p3/8/P5P1/1PP4P/2K1R3 w - - 0 1; Rxe5; 100",
+            "1k1r3q/1ppn3p/p4b2/4p3/8/P2N2P1/1PP1R1BP/2K1Q3 w - - 0 1; Nxe5; -220",
+            "3rk3/3r4/8/3q4/8/8/3R4/3QK3 w - - 0 1; Rxd5; 400",
+            "4k3/8/8/3q4/4P3/2n5/8/4K3 w - - 0 1; exd5; 800",
+            "4k3/8/8/3p4/8/8/8/3QK3 w - - 0 1; Qxd5; 100",
+            "4k3/4p3/3p4/8/8/8/8/3QK3 w - - 0 1; Qxd6; -800",
+            "4k3/8/8/3pP3/8/8/8/4K3 w - d6 0 1; exd6; 100",
+            "8/P6k/8/8/8/8/8/K7 w - - 0 1; a8=Q; 800",
+            "4k3/8/8/8/8/8/8/R3K3 w - - 0 1; Ra5; 0"
+    })
+    void evaluatesExchange(String fen, String san, int expectedGain) {
+        BitBoard board = Fen.toBitBoard(fen);
+        int move = San.decode(board, san, new int[MoveGenerator.MAX_MOVES]);
+        assertEquals(expectedGain, StaticExchange.evaluate(board, move));
+        assertEquals(expectedGain, StaticExchange.evaluate(board, move, new int[StaticExchange.MAX_EXCHANGES]));
+        assertEquals(fen, Fen.toString(board));
+    }
+}
@@ -0,0 +1,89 @@
+package com.internship.engine;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static com.internship.engine.TranspositionTable.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class TranspositionTableTest {
+    private static final long KEY = 0x9E3779B97F4A7C15L;
+    private static final long SAME_BUCKET = 1L << 20;
+
+    private final TranspositionTable table = new TranspositionTable(1);
+
+    @ParameterizedTest
+    @CsvSource({
+            "4660, 123, 7, 3",
+            "65535, -30950, 12, 2",
+            "1, 30990, 255, 1",
+            "0, -1, 0, 3"
+    })
+    void roundTripsEntry(int move, int score, int depth, int bound) {
+        table.store(KEY, move, score, depth, bound);
+        long data = table.probe(KEY);
+        assertEquals(move, move(data));
+        assertEquals(score, score(data));
+        assertEquals(depth, depth(data));
+        assertEquals(bound, bound(data));
+    }
+
+    @Test
+    void missesOtherKeyInSameBucket() {
+        table.store(KEY, 100, 50, 4, BOUND_EXACT);
+        assertEquals(MISS, table.probe(KEY ^ SAME_BUCKET));
+        assertEquals(MISS, table.probe(KEY ^ 1L << 40));
+        assertNotEquals(MISS, table.probe(KEY));
+    }
+
+    @Test
+    void keepsDeeperBoundOverShallowOne() {
+        table.store(KEY, 100, 50, 10, BOUND_LOWER);
+        table.store(KEY, 200, 70, 4, BOUND_UPPER);
+        assertEquals(100, move(table.probe(KEY)));
+        assertEquals(10, depth(table.probe(KEY)));
+        table.store(KEY, 0, 80, 4, BOUND_EXACT);
+        long data = table.probe(KEY);
+        assertEquals(100, move(data));
+        assertEquals(80, score(data));
+        assertEquals(BOUND_EXACT, bound(data));
+    }
+
+    @Test
+    void replacesShallowestEntryOfFullBucket() {
+        long deep = KEY;
+        long shallow = KEY ^ SAME_BUCKET;
+        long incoming = KEY ^ 2 * SAME_BUCKET;
+        table.store(deep, 1, 0, 10, BOUND_EXACT);
+        table.store(shallow, 2, 0, 2, BOUND_EXACT);
+        table.store(incoming, 3, 0, 5, BOUND_EXACT);
+        assertEquals(1, move(table.probe(deep)));
+        assertEquals(MISS, table.probe(shallow));
+        assertEquals(3, move(table.probe(incoming)));
+    }
+
+    @Test
+    void agedEntriesLoseToCurrentOnes() {
+        long old = KEY;
+        long current = KEY ^ SAME_BUCKET;
+        long incoming = KEY ^ 2 * SAME_BUCKET;
+        table.store(old, 1, 0, 10, BOUND_EXACT);
+        table.newSearch();
+        table.newSearch();
+        table.store(current, 2, 0, 3, BOUND_EXACT);
+        table.store(incoming, 3, 0, 1, BOUND_EXACT);
+        assertEquals(MISS, table.probe(old));
+        assertEquals(2, move(table.probe(current)));
+        assertEquals(3, move(table.probe(incoming)));
+    }
+
+    @Test
+    void clearEmptiesTable() {
+        table.store(KEY, 100, 50, 4, BOUND_EXACT);
+        table.clear();
+        assertEquals(MISS, table.probe(KEY));
+        assertEquals(0, table.hashfull());
+    }
+}
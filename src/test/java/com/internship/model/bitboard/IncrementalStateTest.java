@@ -0,0 +1,86 @@
+package com.internship.model.bitboard;
+
+import com.internship.notation.Fen;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IncrementalStateTest {
+    private static final String[] POSITIONS = {
+            Fen.START_POSITION,
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+            "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+            "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8"
+    };
+    private static final int PLIES = 120;
+
+    @Test
+    void matchesRecomputeThroughRandomGames() {
+        Random random = new Random(19);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int[] played = new int[PLIES];
+        int[] kinds = new int[4];
+        for (int game = 0; game < 200; game++) {
+            BitBoard board = Fen.toBitBoard(POSITIONS[game % POSITIONS.length]);
+            int ply = 0;
+            for (; ply < PLIES; ply++) {
+                int count = MoveGenerator.generateLegal(board, moves);
+                if (count == 0) {
+                    break;
+                }
+                int move = moves[random.nextInt(count)];
+                kinds[kind(move)]++;
+                board.doMove(move);
+                played[ply] = move;
+                assertMatchesRecompute(board);
+            }
+            while (ply > 0) {
+                board.undoMove(played[--ply]);
+                assertMatchesRecompute(board);
+            }
+            assertEquals(POSITIONS[game % POSITIONS.length], Fen.toString(board));
+        }
+        for (int kind : kinds) {
+            assertTrue(kind > 0);
+        }
+    }
+
+    private static int kind(int move) {
+        if (Move.isPromotion(move)) {
+            return 0;
+        }
+        return switch (Move.flag(move)) {
+            case Move.KING_CASTLE, Move.QUEEN_CASTLE -> 1;
+            case Move.EN_PASSANT -> 2;
+            default -> 3;
+        };
+    }
+
+    private static void assertMatchesRecompute(BitBoard board) {
+        int middlegame = 0;
+        int endgame = 0;
+        int phase = 0;
+        int[] counts = new int[12];
+        for (int square = 0; square < Bitboards.SQUARES; square++) {
+            int piece = board.getPiece(square);
+            if (piece == BitBoard.NO_PIECE) {
+                continue;
+            }
+            middlegame += PieceSquareTables.middlegame(piece, square);
+            endgame += PieceSquareTables.endgame(piece, square);
+            phase += PieceSquareTables.phase(piece);
+            counts[piece]++;
+        }
+        assertEquals(middlegame, board.getMiddlegameScore());
+        assertEquals(endgame, board.getEndgameScore());
+        assertEquals(phase, board.getPhase());
+        for (int piece = 0; piece < counts.length; piece++) {
+            assertEquals(counts[piece], board.countPieces(piece));
+        }
+        assertEquals(Zobrist.compute(board), board.getKey());
+    }
+}
@@ -0,0 +1,42 @@
+package com.internship.model.bitboard;
+
+import com.internship.notation.Fen;
+import com.internship.notation.San;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InsufficientMaterialTest {
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = {
+            "4k3/8/8/8/8/8/8/4K3 w - - 0 1; true",
+            "4k3/8/8/8/8/8/8/4KN2 w - - 0 1; true",
+            "4k3/8/8/8/8/8/8/4KB2 w - - 0 1; true",
+            "2b1k3/8/8/8/8/8/8/4KB2 w - - 0 1; true",
+            "2b1k3/8/8/8/8/7B/8/4KB2 w - - 0 1; true",
+            "4kb2/8/8/8/8/8/8/4KB2 w - - 0 1; false",
+            "4kn2/8/8/8/8/8/8/4KB2 w - - 0 1; false",
+            "4k3/8/8/8/8/8/8/3NKN2 w - - 0 1; false",
+            "4k3/8/8/8/8/8/4P3/4K3 w - - 0 1; false",
+            "4k3/8/8/8/8/8/8/4K2R w - - 0 1; false",
+            "3qk3/8/8/8/8/8/8/4K3 w - - 0 1; false"
+    })
+    void recognisesDrawnMaterial(String fen, boolean insufficient) {
+        assertEquals(insufficient, Fen.toBitBoard(fen).isInsufficientMaterial());
+    }
+
+    @Test
+    void followsCapturesAndUndo() {
+        BitBoard board = Fen.toBitBoard("4k3/8/8/8/8/8/3r4/4K3 w - - 0 1");
+        int move = San.decode(board, "Kxd2", new int[MoveGenerator.MAX_MOVES]);
+        assertFalse(board.isInsufficientMaterial());
+        board.doMove(move);
+        assertTrue(board.isInsufficientMaterial());
+        board.undoMove(move);
+        assertFalse(board.isInsufficientMaterial());
+    }
+}
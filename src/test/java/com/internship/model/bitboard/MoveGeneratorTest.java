@@ -0,0 +1,68 @@
+package com.internship.model.bitboard;
+
+import com.internship.notation.Fen;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MoveGeneratorTest {
+    private final int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+            "8/1P4n1/8/3pP3/8/2n5/1P6/R2Q4 w - d6 0 1",
+            "4k3/8/8/8/8/8/8/8 b - - 0 1"
+    })
+    void filtersByKindsAndSources(String fen) {
+        BitBoard board = Fen.toBitBoard(fen);
+        Set<Integer> all = collect(board, MoveGenerator.ALL_MOVES, -1L);
+        for (int kinds = MoveGenerator.TACTICAL_MOVES; kinds <= MoveGenerator.ALL_MOVES; kinds++) {
+            for (long sources : new long[] {-1L, Bitboards.RANK_1 | Bitboards.FILE_A, board.getOccupancy(board.getSideToMove())}) {
+                Set<Integer> expected = new HashSet<>();
+                for (int move : all) {
+                    if (Bitboards.contains(sources, Move.from(move)) && (kinds & kind(move)) != 0) {
+                        expected.add(move);
+                    }
+                }
+                assertEquals(expected, collect(board, kinds, sources));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "8/1P4n1/8/3pP3/8/2n5/1P6/R2Q4 w - d6 0 1",
+            "8/8/8/8/3p4/8/2P5/8 b - - 0 1"
+    })
+    void kinglessPositionHonoursFilters(String fen) {
+        BitBoard board = Fen.toBitBoard(fen);
+        for (int move : collect(board, MoveGenerator.TACTICAL_MOVES, -1L)) {
+            assertTrue(Move.isCapture(move) || Move.isPromotion(move));
+        }
+        for (int move : collect(board, MoveGenerator.QUIET_MOVES, -1L)) {
+            assertTrue(!Move.isCapture(move) && !Move.isPromotion(move));
+        }
+        assertEquals(0, MoveGenerator.generateLegal(board, moves, MoveGenerator.ALL_MOVES, 0L));
+    }
+
+    private Set<Integer> collect(BitBoard board, int kinds, long sources) {
+        int count = MoveGenerator.generateLegal(board, moves, kinds, sources);
+        Set<Integer> result = new HashSet<>();
+        for (int index = 0; index < count; index++) {
+            result.add(moves[index]);
+        }
+        assertEquals(count, result.size());
+        return result;
+    }
+
+    private static int kind(int move) {
+        return Move.isCapture(move) || Move.isPromotion(move) ? MoveGenerator.TACTICAL_MOVES : MoveGenerator.QUIET_MOVES;
+    }
+}
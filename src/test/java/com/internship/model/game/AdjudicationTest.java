@@ -0,0 +1,79 @@
+package com.internship.model.game;
+
+import com.internship.engine.MoveStrategy;
+import com.internship.engine.RandomMoveStrategy;
+import com.internship.model.GameResult;
+import com.internship.model.bitboard.BitBoard;
+import com.internship.model.bitboard.Move;
+import com.internship.model.bitboard.MoveGenerator;
+import com.internship.notation.Fen;
+import com.internship.notation.San;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AdjudicationTest {
+    @Test
+    void drawsAtPlyCap() {
+        Game game = new Game();
+        game.prepareGame(kingMoves(), kingMoves());
+        game.setAdjudication(Adjudication.maxPlies(10));
+        assertEquals(GameResult.DRAW, game.play());
+        assertEquals(10, game.getPlyCount());
+    }
+
+    @Test
+    void drawsOnInsufficientMaterial() {
+        Game game = new Game();
+        game.prepareGame("4k3/8/8/8/8/8/8/4KN2 w - - 0 1", new RandomMoveStrategy(), new RandomMoveStrategy());
+        assertEquals(GameResult.DRAW, game.play());
+        assertEquals(0, game.getPlyCount());
+    }
+
+    @Test
+    void resignsForSideThatStaysBehind() {
+        Adjudication adjudication = new Adjudication(Integer.MAX_VALUE, 500, 4, 0, 0);
+        assertEquals(GameResult.WHITE_WINS, play("k7/8/8/8/8/8/8/4K2Q w - - 0 1", adjudication).getResult());
+        Game game = play("k6q/8/8/8/8/8/8/4K3 w - - 0 1", adjudication);
+        assertEquals(GameResult.BLACK_WINS, game.getResult());
+        assertEquals(3, game.getPlyCount());
+    }
+
+    @Test
+    void drawsBalancedPosition() {
+        Game game = play("4k3/4p3/8/8/8/8/4P3/4K3 w - - 0 1", new Adjudication(Integer.MAX_VALUE, 0, 0, 50, 6));
+        assertEquals(GameResult.DRAW, game.getResult());
+        assertEquals(5, game.getPlyCount());
+    }
+
+    @Test
+    void neverOverridesMate() {
+        String fen = "k7/8/1K6/8/8/8/8/7R w - - 0 1";
+        Game game = new Game();
+        game.prepareGame(fen, kingMoves(), kingMoves());
+        game.setAdjudication(new Adjudication(Integer.MAX_VALUE, 0, 0, 100_000, 1));
+        game.playMove(San.decode(Fen.toBitBoard(fen), "Rh8#", new int[MoveGenerator.MAX_MOVES]));
+        assertEquals(GameResult.WHITE_WINS, game.play());
+    }
+
+    private static Game play(String fen, Adjudication adjudication) {
+        Game game = new Game();
+        game.prepareGame(fen, kingMoves(), kingMoves());
+        game.setAdjudication(adjudication);
+        game.play();
+        return game;
+    }
+
+    private static MoveStrategy kingMoves() {
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        return position -> {
+            int count = MoveGenerator.generateLegal(position, moves);
+            for (int index = 0; index < count; index++) {
+                if (BitBoard.typeOf(position.getPiece(Move.from(moves[index]))) == BitBoard.KING) {
+                    return moves[index];
+                }
+            }
+            return count > 0 ? moves[0] : Move.NONE;
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package com.internship.model.game;
+
+import com.internship.engine.RandomMoveStrategy;
+import com.internship.model.GameResult;
+import com.internship.model.bitboard.BitBoard;
+import com.internship.model.bitboard.MoveGenerator;
+import com.internship.notation.Fen;
+import com.internship.notation.San;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DrawRulesTest {
+    @Test
+    void detectsRepetitionWithinReversibleMoves() {
+        PositionHistory history = new PositionHistory();
+        for (long key : new long[]{1, 2, 3, 4, 1, 2, 3, 4}) {
+            history.push(key);
+        }
+        assertFalse(history.isThreefoldRepetition(7));
+        history.push(1);
+        assertTrue(history.isThreefoldRepetition(8));
+        assertFalse(history.isThreefoldRepetition(4));
+    }
+
+    @Test
+    void clearForgetsEarlierPositions() {
+        PositionHistory history = new PositionHistory();
+        for (long key : new long[]{1, 2, 3, 4, 1, 2, 3, 4}) {
+            history.push(key);
+        }
+        history.clear();
+        history.push(1);
+        assertFalse(history.isThreefoldRepetition(8));
+    }
+
+    @Test
+    void drawsOnThreefoldRepetition() {
+        Game game = prepare(Fen.START_POSITION, "Nf3", "Nf6", "Ng1", "Ng8", "Nf3", "Nf6", "Ng1", "Ng8");
+        assertEquals(GameResult.DRAW, game.play());
+        assertEquals(8, game.getPlyCount());
+    }
+
+    @Test
+    void drawsAfterFiftyMovesWithoutCaptureOrPawnMove() {
+        Game game = prepare("4k3/8/8/8/8/8/8/R3K3 w - - 99 80", "Ra2");
+        assertEquals(GameResult.DRAW, game.play());
+        assertEquals(1, game.getPlyCount());
+    }
+
+    @Test
+    void mateOnTheHundredthHalfmoveStands() {
+        Game game = prepare("k7/8/1K6/8/8/8/8/7R w - - 99 80", "Rh8#");
+        assertEquals(GameResult.WHITE_WINS, game.play());
+    }
+
+    private static Game prepare(String fen, String... moves) {
+        Game game = new Game();
+        game.prepareGame(fen, new RandomMoveStrategy(), new RandomMoveStrategy());
+        BitBoard position = Fen.toBitBoard(fen);
+        int[] buffer = new int[MoveGenerator.MAX_MOVES];
+        for (String san : moves) {
+            int move = San.decode(position, san, buffer);
+            position.doMove(move);
+            game.playMove(move);
+        }
+        return game;
+    }
+}
@@ -0,0 +1,72 @@
+package com.internship.model.game;
+
+import com.internship.engine.MoveStrategy;
+import com.internship.engine.RandomMoveStrategy;
+import com.internship.model.bitboard.BitBoard;
+import com.internship.model.bitboard.Move;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class GameThreadsTest {
+    @Test
+    void alternatesTurnsOnPlatformThreads() {
+        playAlternating(Thread.ofPlatform());
+    }
+
+    @Test
+    void alternatesTurnsOnVirtualThreads() {
+        playAlternating(Thread.ofVirtual());
+    }
+
+    @Test
+    void endsGameWhenStrategyThrows() {
+        RuntimeException failure = new UnsupportedOperationException("engine failure");
+        Game game = new Game();
+        game.prepareGame(new RandomMoveStrategy(), position -> {
+            throw failure;
+        });
+        game.startGame(Thread.ofVirtual());
+        assertTimeoutPreemptively(Duration.ofSeconds(10), game::awaitEnd);
+        assertFalse(game.isGameInProcess());
+        assertSame(failure, game.getFailure());
+        assertNull(game.getResult());
+        assertEquals(1, game.getPlyCount());
+    }
+
+    private static void playAlternating(Thread.Builder threads) {
+        AtomicInteger turns = new AtomicInteger();
+        AtomicInteger wrongSide = new AtomicInteger();
+        Game game = new Game();
+        game.prepareGame(strategy(BitBoard.WHITE, turns, wrongSide), strategy(BitBoard.BLACK, turns, wrongSide));
+        game.setAdjudication(Adjudication.maxPlies(200));
+        game.startGame(threads);
+        assertTimeoutPreemptively(Duration.ofSeconds(10), game::awaitEnd);
+        assertNotNull(game.getResult());
+        assertNull(game.getFailure());
+        assertEquals(0, wrongSide.get());
+        assertEquals(game.getPlyCount(), turns.get());
+    }
+
+    private static MoveStrategy strategy(int color, AtomicInteger turns, AtomicInteger wrongSide) {
+        RandomMoveStrategy random = new RandomMoveStrategy();
+        return position -> {
+            if (position.getSideToMove() != color) {
+                wrongSide.incrementAndGet();
+            }
+            int move = random.chooseMove(position);
+            if (move != Move.NONE) {
+                turns.incrementAndGet();
+            }
+            return move;
+        };
+    }
+}
@@ -0,0 +1,76 @@
+package com.internship.model.game;
+
+import com.internship.model.Team;
+import com.internship.model.bitboard.BitBoard;
+import com.internship.model.figure.Figure;
+import com.internship.model.figure.Position;
+import com.internship.model.figure.impl.King;
+import com.internship.model.figure.impl.Knight;
+import com.internship.model.figure.impl.Pawn;
+import com.internship.model.figure.impl.Rook;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PieceListTest {
+    private static final int A2 = 8;
+    private static final int E1 = 4;
+    private static final int F1 = 5;
+    private static final int G1 = 6;
+    private static final int H1 = 7;
+
+    @Test
+    void tracksKingSquareThroughMoves() {
+        PieceList figures = new PieceList();
+        assertEquals(BitBoard.NO_SQUARE, figures.getKingSquare());
+        Figure king = new King(Position.of(E1), Team.WHITE);
+        figures.add(new Pawn(Position.of(A2), Team.WHITE));
+        figures.add(king);
+        assertEquals(E1, figures.getKingSquare());
+        figures.move(E1, G1);
+        assertEquals(G1, figures.getKingSquare());
+        assertSame(king, figures.at(G1));
+        assertNull(figures.at(E1));
+    }
+
+    @Test
+    void keepsKingSlotWhenOtherFiguresAreRemoved() {
+        PieceList figures = new PieceList();
+        Figure king = new King(Position.of(E1), Team.WHITE);
+        Figure rook = new Rook(Position.of(H1), Team.WHITE);
+        figures.add(new Pawn(Position.of(A2), Team.WHITE));
+        figures.add(rook);
+        figures.add(king);
+        figures.remove(A2);
+        assertEquals(2, figures.size());
+        assertEquals(E1, figures.getKingSquare());
+        assertSame(king, figures.at(E1));
+        assertSame(rook, figures.at(H1));
+        figures.move(H1, F1);
+        assertSame(rook, figures.at(F1));
+        assertSame(king, figures.remove(E1));
+        assertEquals(BitBoard.NO_SQUARE, figures.getKingSquare());
+        assertEquals(1, figures.size());
+        assertSame(rook, figures.get(0));
+    }
+
+    @Test
+    void ignoresEmptySquareOnRemove() {
+        PieceList figures = new PieceList();
+        figures.add(new King(Position.of(E1), Team.WHITE));
+        assertNull(figures.remove(A2));
+        assertEquals(1, figures.size());
+    }
+
+    @Test
+    void rejectsMoreThanCapacity() {
+        PieceList figures = new PieceList();
+        for (int square = 0; square < PieceList.CAPACITY; square++) {
+            figures.add(new Knight(Position.of(square), Team.WHITE));
+        }
+        assertThrows(IllegalStateException.class, () -> figures.add(new Knight(Position.of(63), Team.WHITE)));
+    }
+}
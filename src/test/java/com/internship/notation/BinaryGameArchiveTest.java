@@ -0,0 +1,124 @@
+package com.internship.notation;
+
+import com.internship.engine.RandomMoveStrategy;
+import com.internship.model.GameResult;
+import com.internship.model.bitboard.BitBoard;
+import com.internship.model.game.Adjudication;
+import com.internship.model.game.Game;
+import com.internship.model.game.GameRecorder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryGameArchiveTest {
+    private static final String SET_UP = "r3k2r/8/8/8/8/8/8/R3K2R b KQkq - 3 17";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsBackRecordedGames() throws IOException {
+        Path path = directory.resolve("games.bin");
+        List<RecordedGame> games = new ArrayList<>();
+        try (FileChannel channel = BinaryGameWriter.createArchive(path)) {
+            for (int index = 0; index < 20; index++) {
+                RecordedGame recorded = new RecordedGame(new BinaryGameWriter(channel));
+                recorded.start = index % 2 == 0 ? Fen.START_POSITION : SET_UP;
+                Game game = new Game();
+                game.prepareGame(recorded.start, new RandomMoveStrategy(), new RandomMoveStrategy());
+                game.setAdjudication(Adjudication.maxPlies(300));
+                game.setRecorder(recorded);
+                game.play();
+                recorded.fen = game.toFen();
+                games.add(recorded);
+            }
+        }
+        try (BinaryGameArchive archive = BinaryGameArchive.open(path)) {
+            BinaryGameArchive.Cursor cursor = archive.cursor();
+            for (RecordedGame recorded : games) {
+                assertTrue(cursor.next());
+                int[] moves = recorded.moves();
+                assertEquals(moves.length, cursor.getMoveCount());
+                assertEquals(recorded.result, cursor.getResult());
+                assertArrayEquals(moves, cursor.getMoves());
+                assertEquals(recorded.start, cursor.getFen());
+                Game replay = new Game();
+                replay.prepareGame(cursor.getFen(), new RandomMoveStrategy(), new RandomMoveStrategy());
+                for (int index = 0; index < cursor.getMoveCount(); index++) {
+                    replay.playMove(cursor.getMove(index));
+                }
+                assertEquals(recorded.fen, replay.toFen());
+            }
+            assertFalse(cursor.next());
+        }
+    }
+
+    @Test
+    void rejectsCorruptResult() throws IOException {
+        Path path = directory.resolve("games.bin");
+        try (FileChannel channel = BinaryGameWriter.createArchive(path)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 7, 0}));
+        }
+        try (BinaryGameArchive archive = BinaryGameArchive.open(path)) {
+            IOException failure = assertThrows(IOException.class, () -> archive.cursor().next());
+            assertTrue(failure.getMessage().startsWith("Invalid result 7"), failure.getMessage());
+        }
+    }
+
+    @Test
+    void rejectsForeignFiles() throws IOException {
+        Path path = Files.writeString(directory.resolve("games.pgn"), "[Event \"?\"]\n");
+        assertThrows(IOException.class, () -> BinaryGameArchive.open(path));
+    }
+
+    private static class RecordedGame implements GameRecorder {
+        private final GameRecorder target;
+        private int[] moves = new int[256];
+        private int count;
+        private GameResult result;
+        private String start;
+        private String fen;
+
+        RecordedGame(GameRecorder target) {
+            this.target = target;
+        }
+
+        @Override
+        public void recordStart(BitBoard position) {
+            target.recordStart(position);
+        }
+
+        @Override
+        public void recordMove(BitBoard position, int move, String notation) {
+            if (count == moves.length) {
+                moves = Arrays.copyOf(moves, count * 2);
+            }
+            moves[count++] = move;
+            target.recordMove(position, move, notation);
+        }
+
+        @Override
+        public void recordResult(GameResult result) {
+            this.result = result;
+            target.recordResult(result);
+        }
+
+        int[] moves() {
+            return Arrays.copyOf(moves, count);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.internship.notation;
+
+import com.internship.engine.Perft;
+import com.internship.engine.RandomMoveStrategy;
+import com.internship.model.bitboard.BitBoard;
+import com.internship.model.bitboard.MoveGenerator;
+import com.internship.model.bitboard.Zobrist;
+import com.internship.model.game.Game;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FenTest {
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3",
+            "r2q1rk1/pP1p2pp/Q4n2/bbp1p3/Np6/1B3NBn/pPPP1PPP/R3K2R b KQ - 0 1",
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+            "4k3/8/8/8/8/8/8/4K2R w K - 37 112"
+    })
+    void roundTripsThroughBitBoard(String fen) {
+        BitBoard board = Fen.toBitBoard(fen);
+        assertEquals(fen, Fen.toString(board));
+        assertEquals(Zobrist.compute(board), board.getKey());
+    }
+
+    @Test
+    void roundTripsThroughGame() {
+        String fen = "r3k2r/8/8/8/8/8/8/R3K2R b KQkq - 3 17";
+        Game game = new Game();
+        game.prepareGame(fen, new RandomMoveStrategy(), new RandomMoveStrategy());
+        assertEquals(fen, game.toFen());
+    }
+
+    @Test
+    void tracksCountersAfterMoves() {
+        Game game = new Game();
+        game.prepareGame();
+        game.playMove(decode(Fen.START_POSITION, "e4"));
+        assertEquals("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1", game.toFen());
+    }
+
+    @Test
+    void defaultsMissingCounters() {
+        assertEquals("4k3/8/8/8/8/8/8/4K3 b - - 0 1", Fen.toString(Fen.toBitBoard("4k3/8/8/8/8/8/8/4K3 b -")));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = {
+            "4k3/8/8/8/8/8/8/4K3 w K - 0 1; 4k3/8/8/8/8/8/8/4K3 w - - 0 1",
+            "r3k3/8/8/8/8/8/8/4K2R w KQkq - 0 1; r3k3/8/8/8/8/8/8/4K2R w Kq - 0 1",
+            "r3k2r/8/8/8/8/8/8/R2K3R b KQkq - 0 1; r3k2r/8/8/8/8/8/8/R2K3R b kq - 0 1",
+            "4k3/8/8/8/8/8/8/4K3 w - e6 0 1; 4k3/8/8/8/8/8/8/4K3 w - - 0 1",
+            "4k3/8/8/4p3/8/8/8/4K3 w - e3 0 1; 4k3/8/8/4p3/8/8/8/4K3 w - - 0 1"
+    })
+    void dropsStateThePlacementDoesNotSupport(String fen, String expected) {
+        BitBoard board = Fen.toBitBoard(fen);
+        assertEquals(expected, Fen.toString(board));
+        assertEquals(Zobrist.compute(board), board.getKey());
+    }
+
+    @Test
+    void unsupportedCastlingRightsDoNotCrashPerft() {
+        assertEquals(25L, new Perft(Fen.toBitBoard("4k3/8/8/8/8/8/8/4K3 w K - 0 1"), 2).count(2));
+    }
+
+    @Test
+    void readsPgnWithUnsupportedCastlingRights() throws IOException {
+        String pgn = """
+                [SetUp "1"]
+                [FEN "4k3/8/8/8/8/8/8/4K3 w K - 0 1"]
+
+                1. Kd2 Kd7 1/2-1/2
+                """;
+        byte[] bytes = pgn.getBytes(StandardCharsets.UTF_8);
+        try (PgnReader reader = new PgnReader(Channels.newChannel(new ByteArrayInputStream(bytes)))) {
+            assertEquals(2, reader.next().moves().length);
+        }
+        assertThrows(IllegalArgumentException.class, () -> decode("4k3/8/8/8/8/8/8/4K3 w K - 0 1", "O-O"));
+    }
+
+    @Test
+    void rejectsInvalidPlacement() {
+        assertThrows(IllegalArgumentException.class, () -> Fen.toBitBoard("4k3/8/8/8/8/8/8/4K3X w - - 0 1"));
+    }
+
+    private static int decode(String fen, String san) {
+        return San.decode(Fen.toBitBoard(fen), san, new int[MoveGenerator.MAX_MOVES]);
+    }
+}
@@ -0,0 +1,120 @@
+package com.internship.notation;
+
+import com.internship.engine.RandomMoveStrategy;
+import com.internship.model.GameResult;
+import com.internship.model.game.Adjudication;
+import com.internship.model.game.Game;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PgnTest {
+    @Test
+    void replaysWrittenGames() throws IOException {
+        StringBuilder pgn = new StringBuilder();
+        List<Game> games = new ArrayList<>();
+        for (int round = 1; round <= 20; round++) {
+            games.add(play(null, pgn, Map.of("Round", String.valueOf(round))));
+        }
+        try (PgnReader reader = reader(pgn)) {
+            for (Game game : games) {
+                PgnGame recorded = reader.next();
+                assertEquals(game.getPlyCount(), recorded.moves().length);
+                assertEquals(token(game.getResult()), recorded.result());
+                assertEquals(token(game.getResult()), recorded.tags().get("Result"));
+                assertEquals(game.toFen(), recorded.replay().toFen());
+            }
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void writesSetUpTagsForFenStart() throws IOException {
+        String fen = "r3k2r/8/8/8/8/8/8/R3K2R b KQkq - 3 17";
+        StringBuilder pgn = new StringBuilder();
+        Game game = play(fen, pgn, Map.of());
+        assertTrue(pgn.indexOf("\n\n17... ") > 0, pgn::toString);
+        try (PgnReader reader = reader(pgn)) {
+            PgnGame recorded = reader.next();
+            assertEquals("1", recorded.tags().get("SetUp"));
+            assertEquals(fen, recorded.fen());
+            assertEquals(game.toFen(), recorded.replay().toFen());
+        }
+    }
+
+    @Test
+    void skipsCommentsVariationsAndAnnotations() throws IOException {
+        String pgn = """
+                [Event "Test"]
+                [White "A \\"quoted\\" name"]
+
+                1. e4 {best by test} e5 2. Nf3 (2. f4 exf4) Nc6 $1 3. Bb5 ; Ruy Lopez
+                a6 1/2-1/2
+                """;
+        try (PgnReader reader = reader(pgn)) {
+            PgnGame game = reader.next();
+            assertEquals("A \"quoted\" name", game.tags().get("White"));
+            assertEquals("1/2-1/2", game.result());
+            assertEquals(6, game.moves().length);
+            assertEquals("r1bqkbnr/1ppp1ppp/p1n5/1B2p3/4P3/5N2/PPPP1PPP/RNBQK2R w KQkq - 0 4", game.replay().toFen());
+        }
+    }
+
+    @Test
+    void rejectsIllegalMoveAndContinuesWithNextGame() throws IOException {
+        String pgn = """
+                [Event "Broken"]
+
+                1. e4 e5 2. Ke3 Nc6 1-0
+
+                [Event "Valid"]
+
+                1. d4 d5 0-1
+                """;
+        try (PgnReader reader = reader(pgn)) {
+            assertThrows(IllegalArgumentException.class, reader::next);
+            PgnGame game = reader.next();
+            assertEquals("Valid", game.tags().get("Event"));
+            assertEquals(2, game.moves().length);
+            assertEquals("0-1", game.result());
+            assertNull(reader.next());
+        }
+    }
+
+    private static Game play(String fen, StringBuilder out, Map<String, String> tags) {
+        Game game = new Game();
+        if (fen == null) {
+            game.prepareGame();
+        } else {
+            game.prepareGame(fen, new RandomMoveStrategy(), new RandomMoveStrategy());
+        }
+        game.setAdjudication(Adjudication.maxPlies(300));
+        game.setRecorder(new PgnWriter(out, tags));
+        game.play();
+        return game;
+    }
+
+    private static PgnReader reader(CharSequence pgn) {
+        byte[] bytes = pgn.toString().getBytes(StandardCharsets.UTF_8);
+        return new PgnReader(Channels.newChannel(new ByteArrayInputStream(bytes)));
+    }
+
+    private static String token(GameResult result) {
+        return switch (result) {
+            case WHITE_WINS -> "1-0";
+            case BLACK_WINS -> "0-1";
+            case DRAW -> "1/2-1/2";
+        };
+    }
+}
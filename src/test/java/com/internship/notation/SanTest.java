@@ -0,0 +1,77 @@
+package com.internship.notation;
+
+import com.internship.model.bitboard.BitBoard;
+import com.internship.model.bitboard.MoveGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SanTest {
+    private final int[] moves = new int[MoveGenerator.MAX_MOVES];
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = {
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1; e4",
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1; Nf3",
+            "4k3/8/8/8/8/8/8/1N3N1K w - - 0 1; Nbd2",
+            "4k3/8/8/8/8/8/8/1N3N1K w - - 0 1; Nfd2",
+            "4k3/8/8/R7/8/8/8/R6K w - - 0 1; R1a3",
+            "4k3/8/8/R7/8/8/8/R6K w - - 0 1; R5a3",
+            "4k3/8/8/8/8/Q7/8/Q1Q4K w - - 0 1; Qa1b2",
+            "4k3/8/8/8/8/8/8/1N2rN1K w - - 0 1; Nd2",
+            "8/P6k/8/8/8/8/8/K7 w - - 0 1; a8=Q",
+            "8/P6k/8/8/8/8/8/K7 w - - 0 1; a8=N",
+            "1r5k/P7/8/8/8/8/8/K7 w - - 0 1; axb8=N",
+            "4k3/8/8/3pP3/8/8/8/4K3 w - d6 0 1; exd6",
+            "r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 0 1; O-O",
+            "r3k2r/8/8/8/8/8/8/R3K2R b KQkq - 0 1; O-O-O",
+            "4k3/8/8/8/8/8/8/R3K3 w - - 0 1; Ra8+",
+            "6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1; Ra8#"
+    })
+    void encodesDecodedMove(String fen, String san) {
+        BitBoard position = Fen.toBitBoard(fen);
+        assertEquals(san, San.encode(position, San.decode(position, san, moves), moves));
+    }
+
+    @Test
+    void omitsCheckMarksWhenNotAnnotating() {
+        BitBoard position = Fen.toBitBoard("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1");
+        assertEquals("Ra8", San.encode(position, San.decode(position, "Ra8#", moves), false, moves));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+            "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8"
+    })
+    void decodesEveryLegalMoveFromItsEncoding(String fen) {
+        BitBoard position = Fen.toBitBoard(fen);
+        int[] legalMoves = new int[MoveGenerator.MAX_MOVES];
+        int count = MoveGenerator.generateLegal(position, legalMoves);
+        for (int index = 0; index < count; index++) {
+            String san = San.encode(position, legalMoves[index], moves);
+            assertEquals(legalMoves[index], San.decode(position, san, moves), san);
+        }
+        assertEquals(fen, Fen.toString(position));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = {
+            "4k3/8/8/8/8/8/8/1N3N1K w - - 0 1; Nd2",
+            "4k3/8/8/8/8/8/8/1N2rN1K w - - 0 1; Nfd2",
+            "4k3/8/8/8/8/8/8/4K3 w - - 0 1; Ke3",
+            "8/P6k/8/8/8/8/8/K7 w - - 0 1; a8",
+            "r3k2r/8/8/8/8/8/8/R3K2R w - - 0 1; O-O",
+            "4k3/8/8/8/8/8/8/4K3 w - - 0 1; K"
+    })
+    void rejectsIllegalOrAmbiguousMoves(String fen, String san) {
+        BitBoard position = Fen.toBitBoard(fen);
+        assertThrows(IllegalArgumentException.class, () -> San.decode(position, san, moves));
+    }
+}
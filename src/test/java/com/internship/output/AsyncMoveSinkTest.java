@@ -0,0 +1,116 @@
+package com.internship.output;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.FileDescriptor;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncMoveSinkTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void writesLinesInOrder() throws IOException {
+        Path path = directory.resolve("moves.txt");
+        try (AsyncMoveSink sink = AsyncMoveSink.toFile(path)) {
+            for (int index = 0; index < 10_000; index++) {
+                sink.write(index + "\n");
+            }
+        }
+        List<String> lines = Files.readAllLines(path);
+        assertEquals(10_000, lines.size());
+        for (int index = 0; index < lines.size(); index++) {
+            assertEquals(String.valueOf(index), lines.get(index));
+        }
+    }
+
+    @Test
+    void dropsWritesWhileRingIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger bytes = new AtomicInteger();
+        WritableByteChannel slowChannel = new WritableByteChannel() {
+            @Override
+            public int write(ByteBuffer source) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                int written = source.remaining();
+                source.position(source.limit());
+                bytes.addAndGet(written);
+                return written;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        AsyncMoveSink sink = AsyncMoveSink.of(slowChannel, 4);
+        for (int index = 0; index < 100; index++) {
+            sink.write("e4\n");
+        }
+        release.countDown();
+        sink.close();
+        assertTrue(sink.getDroppedWrites() > 0);
+        assertEquals((100 - sink.getDroppedWrites()) * 3, bytes.get());
+    }
+
+    @Test
+    void leavesStandardOutputOpen() throws IOException {
+        AsyncMoveSink.toConsole().close();
+        assertTrue(FileDescriptor.out.valid());
+    }
+
+    @Test
+    void rejectsWriteAfterClose() throws IOException {
+        AsyncMoveSink sink = AsyncMoveSink.toFile(directory.resolve("moves.txt"));
+        sink.close();
+        assertThrows(IllegalStateException.class, () -> sink.write("e4\n"));
+    }
+
+    @Test
+    void keepsEveryAcceptedWriteRacingWithClose() throws Exception {
+        for (int round = 0; round < 50; round++) {
+            Path path = directory.resolve("moves" + round + ".txt");
+            AsyncMoveSink sink = AsyncMoveSink.toFile(path);
+            AtomicInteger accepted = new AtomicInteger();
+            Thread[] writers = new Thread[2];
+            for (int index = 0; index < writers.length; index++) {
+                writers[index] = Thread.ofPlatform().start(() -> {
+                    try {
+                        while (true) {
+                            sink.write("e4\n");
+                            accepted.incrementAndGet();
+                        }
+                    } catch (IllegalStateException closed) {
+                        return;
+                    }
+                });
+            }
+            Thread.sleep(1);
+            sink.close();
+            for (Thread writer : writers) {
+                writer.join();
+            }
+            assertEquals(accepted.get() - sink.getDroppedWrites(), Files.readAllLines(path).size());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.internship.simulation;
+
+import com.internship.engine.RandomMoveStrategy;
+import com.internship.model.game.Adjudication;
+import com.internship.notation.PgnGame;
+import com.internship.notation.PgnReader;
+import com.internship.notation.PgnWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SimulationRunnerTest {
+    @Test
+    void reportsEveryGame() throws InterruptedException {
+        SimulationReport report = new SimulationRunner(2, Adjudication.maxPlies(100)).run(40);
+        assertEquals(40, report.games());
+        assertEquals(40, report.whiteWins() + report.blackWins() + report.draws());
+        assertTrue(report.minPlies() <= report.maxPlies());
+        assertTrue(report.maxPlies() <= 100);
+        assertTrue(report.totalPlies() >= 40L * report.minPlies());
+    }
+
+    @Test
+    void reportsFailedGame() {
+        SimulationRunner runner = new SimulationRunner(
+                2,
+                RandomMoveStrategy::new,
+                () -> position -> {
+                    throw new UnsupportedOperationException("engine failure");
+                },
+                Adjudication.maxPlies(100)
+        );
+        IllegalStateException failure = assertThrows(IllegalStateException.class, () -> runner.run(4));
+        assertEquals("engine failure", failure.getCause().getMessage());
+        failure = assertThrows(IllegalStateException.class, () -> runner.runLive(4));
+        assertEquals("engine failure", failure.getCause().getMessage());
+    }
+
+    @Test
+    void recordsEachGameOnce() throws InterruptedException, IOException {
+        StringBuilder pgn = new StringBuilder();
+        SimulationReport report = new SimulationRunner(2, Adjudication.maxPlies(100))
+                .run(10, round -> new PgnWriter(pgn, Map.of("Round", String.valueOf(round))));
+        Set<String> rounds = new HashSet<>();
+        long plies = 0;
+        byte[] bytes = pgn.toString().getBytes(StandardCharsets.UTF_8);
+        try (PgnReader reader = new PgnReader(Channels.newChannel(new ByteArrayInputStream(bytes)))) {
+            for (PgnGame game = reader.next(); game != null; game = reader.next()) {
+                rounds.add(game.tags().get("Round"));
+                plies += game.moves().length;
+            }
+        }
+        assertEquals(10, rounds.size());
+        assertEquals(report.totalPlies(), plies);
+    }
+}